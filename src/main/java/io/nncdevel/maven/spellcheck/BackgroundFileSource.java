@@ -0,0 +1,79 @@
+package io.nncdevel.maven.spellcheck;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Runs the discovery of another file source in a background thread as soon
+ * as it is created, and replays the discovered files to the spell checker
+ * later. Discovery therefore overlaps with everything that happens before
+ * the check starts. Only file names are buffered, so the buffer stays small.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+class BackgroundFileSource implements FileSource, AutoCloseable {
+
+    /**
+     * Marks the end of discovery in the queue.
+     */
+    private static final File END = new File("");
+
+    private final BlockingQueue<File> files = new LinkedBlockingQueue<>();
+    private final Thread thread;
+    private volatile IOException failure;
+    private volatile boolean closed;
+
+    /**
+     * Starts discovering the files of a source in the background.
+     *
+     * @param source the source to discover
+     */
+    BackgroundFileSource(FileSource source) {
+        this.thread = new Thread(() -> discover(source), "spellcheck-discovery");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    private void discover(FileSource source) {
+        try {
+            source.forEachFile(file -> {
+                if (closed) {
+                    throw new InterruptedIOException("File discovery cancelled");
+                }
+                files.add(file);
+            });
+        } catch (IOException e) {
+            failure = e;
+        } finally {
+            files.add(END);
+        }
+    }
+
+    @Override
+    public void forEachFile(FileConsumer consumer) throws IOException {
+        try {
+            File file;
+            while ((file = files.take()) != END) {
+                consumer.accept(file);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for file discovery");
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Stops the background discovery if it is still running.
+     */
+    @Override
+    public void close() {
+        closed = true;
+    }
+}
@@ -0,0 +1,39 @@
+package io.nncdevel.maven.spellcheck;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Discovers the files to check and hands them to the spell checker one by
+ * one, so that checking can start before discovery has finished.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface FileSource {
+
+    /**
+     * Receives discovered files.
+     */
+    @FunctionalInterface
+    interface FileConsumer {
+
+        /**
+         * Accepts a discovered file. The call blocks while the spell checker
+         * is busy, which limits how far discovery can run ahead.
+         *
+         * @param file the file to check
+         * @throws IOException if the spell check was aborted
+         */
+        void accept(File file) throws IOException;
+    }
+
+    /**
+     * Discovers all files, in a stable order, and passes them to the consumer.
+     *
+     * @param consumer the consumer of the discovered files
+     * @throws IOException if discovery fails
+     */
+    void forEachFile(FileConsumer consumer) throws IOException;
+}
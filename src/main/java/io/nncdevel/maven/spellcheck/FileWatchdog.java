@@ -0,0 +1,108 @@
+package io.nncdevel.maven.spellcheck;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Limits the time spent checking a file. Each check takes a {@link Ticket}
+ * that the watchdog marks as expired when the time limit is over; the
+ * spelling engines poll the ticket and cancel the check once it has expired.
+ * Threads are never interrupted, because LanguageTool loads shared resources
+ * lazily and an interrupted load would break every later check.
+ * <p>
+ * The watchdog runs on a single daemon thread that only wakes up when a
+ * time limit expires, so checks that finish in time cost a scheduled task
+ * and nothing else.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+final class FileWatchdog implements AutoCloseable {
+
+    private final long timeoutMillis;
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    /**
+     * Creates a new watchdog.
+     *
+     * @param timeoutMillis the time limit of a check in milliseconds
+     */
+    FileWatchdog(long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+        this.scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "spellcheck-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Starts the time limit of a check.
+     *
+     * @return the ticket of the check, to be closed when the check is over
+     */
+    Ticket start() {
+        Ticket ticket = new Ticket();
+        ticket.expiry = scheduler.schedule(ticket::expire, timeoutMillis, TimeUnit.MILLISECONDS);
+        return ticket;
+    }
+
+    /**
+     * Gets the time limit of a check.
+     *
+     * @return the time limit in milliseconds
+     */
+    long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * Stops the watchdog thread. Checks that are still running are no longer limited.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * The time limit of a single check. As a {@link BooleanSupplier} it
+     * tells the engines whether the check has been cancelled.
+     */
+    static final class Ticket implements BooleanSupplier, AutoCloseable {
+
+        private volatile boolean expired;
+        private volatile ScheduledFuture<?> expiry;
+
+        /**
+         * Checks whether the time limit has expired.
+         *
+         * @return true if the check has been cancelled
+         */
+        boolean isExpired() {
+            return expired;
+        }
+
+        @Override
+        public boolean getAsBoolean() {
+            return expired;
+        }
+
+        private void expire() {
+            expired = true;
+        }
+
+        /**
+         * Ends the check and cancels its time limit.
+         */
+        @Override
+        public void close() {
+            ScheduledFuture<?> future = expiry;
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package io.nncdevel.maven.spellcheck;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The files whose check has timed out, kept in a text file with one path
+ * per line so that later runs skip them. Lines starting with {@code #}
+ * are comments, and relative paths are resolved against the working
+ * directory. A file is appended as soon as it times out, so the list
+ * survives an aborted build. Remove a line to check the file again.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+final class Quarantine {
+
+    private static final String HEADER = "# Files skipped by the spell check because checking them timed out";
+
+    private final File file;
+    private final Set<String> paths = ConcurrentHashMap.newKeySet();
+
+    private Quarantine(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Loads the quarantine list from a file.
+     *
+     * @param file the quarantine file, which need not exist yet
+     * @return the quarantine list
+     * @throws IOException if the file exists but cannot be read
+     */
+    static Quarantine load(File file) throws IOException {
+        Quarantine quarantine = new Quarantine(file);
+        if (file.isFile()) {
+            try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (!line.isEmpty() && !line.startsWith("#")) {
+                        quarantine.paths.add(toKey(new File(line)));
+                    }
+                }
+            }
+        }
+        return quarantine;
+    }
+
+    /**
+     * Checks whether a file is quarantined.
+     *
+     * @param file the file
+     * @return true if the file is skipped
+     */
+    boolean contains(File file) {
+        return paths.contains(toKey(file));
+    }
+
+    /**
+     * Quarantines a file and appends it to the quarantine file.
+     *
+     * @param file the file whose check has timed out
+     * @throws IOException if the quarantine file cannot be written
+     */
+    synchronized void add(File file) throws IOException {
+        String key = toKey(file);
+        if (!paths.add(key)) {
+            return;
+        }
+
+        boolean created = !this.file.exists();
+        File parent = this.file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(this.file, true))) {
+            if (created) {
+                writer.write(HEADER);
+                writer.newLine();
+            }
+            writer.write(key);
+            writer.newLine();
+        }
+    }
+
+    /**
+     * Gets the number of quarantined files.
+     *
+     * @return the file count
+     */
+    int size() {
+        return paths.size();
+    }
+
+    /**
+     * Gets the quarantine file.
+     *
+     * @return the file that keeps the list
+     */
+    File getFile() {
+        return file;
+    }
+
+    private static String toKey(File file) {
+        return file.getAbsoluteFile().toPath().normalize().toString();
+    }
+}
@@ -16,10 +16,17 @@ import org.apache.maven.project.MavenProject;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 /**
@@ -77,9 +84,13 @@ public class SpellCheckMojo extends AbstractMojo {
     private File[] sourceDirectories;
 
     /**
-     * Language for spell checking (e.g., "en-US", "en-GB").
+     * Language for spell checking (e.g., "en-US", "en-GB"), or several
+     * comma-separated languages (e.g., "en-US,en-GB"). With several
+     * languages, a word is only an error if every language rejects it.
+     * If not set, the language of the CSpell configuration is used, and
+     * "en-US" without one.
      */
-    @Parameter(property = "spellcheck.language", defaultValue = "en-US")
+    @Parameter(property = "spellcheck.language")
     private String language;
 
     /**
@@ -134,7 +145,139 @@ public class SpellCheckMojo extends AbstractMojo {
     @Parameter(property = "spellcheck.useCSpellConfig", defaultValue = "true")
     private boolean useCSpellConfig;
 
-    private SpellChecker spellChecker;
+    /**
+     * Number of threads used to check files in parallel.
+     * Zero or a negative value uses the number of available processors.
+     */
+    @Parameter(property = "spellcheck.threads", defaultValue = "0")
+    private int threads;
+
+    /**
+     * Disable all grammar, style and punctuation rules so that only the
+     * spelling rules are evaluated.
+     */
+    @Parameter(property = "spellcheck.spellingOnly", defaultValue = "true")
+    private boolean spellingOnly;
+
+    /**
+     * Spelling engine to use: "languagetool" runs the full LanguageTool
+     * analysis pipeline, "speller" looks words up directly in the
+     * dictionary and skips sentence analysis.
+     */
+    @Parameter(property = "spellcheck.engine", defaultValue = "languagetool")
+    private String engine;
+
+    /**
+     * Maximum number of distinct words whose spelling verdict and
+     * suggestions are cached during a run. Zero disables the cache.
+     */
+    @Parameter(property = "spellcheck.wordCacheSize", defaultValue = "50000")
+    private int wordCacheSize;
+
+    /**
+     * Maximum number of sentences in the LanguageTool result cache, which is
+     * shared by all executions in the same JVM. Zero disables the cache.
+     */
+    @Parameter(property = "spellcheck.resultCacheSize", defaultValue = "10000")
+    private long resultCacheSize;
+
+    /**
+     * Minutes after which unused entries of the result cache expire.
+     */
+    @Parameter(property = "spellcheck.resultCacheExpireMinutes", defaultValue = "60")
+    private long resultCacheExpireMinutes;
+
+    /**
+     * Whether to skip paragraphs whose words are all in the speller dictionary
+     * or the ignore words. The pre-screen uses a Bloom filter, so a misspelling
+     * may rarely be missed, and LanguageTool rules that flag known words do not apply
+     * to skipped paragraphs.
+     */
+    @Parameter(property = "spellcheck.prescreen", defaultValue = "false")
+    private boolean prescreen;
+
+    /**
+     * Maximum number of small files that are checked with a single engine call.
+     * One disables batching.
+     */
+    @Parameter(property = "spellcheck.batchSize", defaultValue = "50")
+    private int batchSize;
+
+    /**
+     * Maximum size in bytes of a file that is checked in a batch with other files.
+     */
+    @Parameter(property = "spellcheck.batchMaxFileSize", defaultValue = "4096")
+    private long batchMaxFileSize;
+
+    /**
+     * Files with more characters than this are split on paragraph boundaries
+     * into segments of about this size, which are checked in parallel.
+     * Zero keeps all files whole.
+     */
+    @Parameter(property = "spellcheck.segmentSize", defaultValue = "65536")
+    private int segmentSize;
+
+    /**
+     * Minutes that initialized spelling engines are kept after an execution,
+     * so that later modules of the reactor and later builds in a Maven Daemon
+     * can reuse them. Zero releases them after each execution.
+     */
+    @Parameter(property = "spellcheck.engineIdleTimeoutMinutes", defaultValue = "10")
+    private long engineIdleTimeoutMinutes;
+
+    /**
+     * Whether to restore the pre-screen filter and the word verdicts from a
+     * snapshot written by a previous run, and to update the snapshot afterwards.
+     * <p>
+     * LanguageTool's rules cannot be serialized, so the snapshot does not
+     * shorten the construction of the LanguageTool engine. With the default
+     * {@code languagetool} engine and {@code prescreen} disabled, it only
+     * restores the verdicts of words already found misspelled, and a cold
+     * start costs about as much as without it. The snapshot pays off with
+     * the {@code speller} engine or with {@code prescreen} enabled.
+     */
+    @Parameter(property = "spellcheck.snapshot", defaultValue = "false")
+    private boolean snapshot;
+
+    /**
+     * Directory of the engine snapshots. Point it to a directory that the CI
+     * caches to share snapshots between builds.
+     */
+    @Parameter(property = "spellcheck.snapshotDirectory", defaultValue = "${project.build.directory}/spellcheck")
+    private File snapshotDirectory;
+
+    /**
+     * Maximum number of suggestions per misspelled word. Suggestions are
+     * expensive to build; zero skips them entirely, which suits CI builds
+     * that only need to fail on misspellings.
+     */
+    @Parameter(property = "spellcheck.maxSuggestions", defaultValue = "5")
+    private int maxSuggestions;
+
+    /**
+     * Classes of tokens that are blanked before checking, because they are
+     * never words: url, email, uuid, hash and base64. An empty value checks
+     * all text.
+     */
+    @Parameter(property = "spellcheck.maskedTokens", defaultValue = "url,email,uuid,hash,base64")
+    private String[] maskedTokens;
+
+    /**
+     * Seconds that checking a single file may take. A file that takes longer,
+     * such as a minified bundle, is cancelled and reported as timed out, and
+     * the check continues with the other files. Zero disables the limit.
+     */
+    @Parameter(property = "spellcheck.fileTimeoutSeconds", defaultValue = "120")
+    private long fileTimeoutSeconds;
+
+    /**
+     * File listing the files that timed out, which later runs skip. Not set
+     * by default, so that a file that times out once on a slow machine is
+     * still checked by later runs. Every run that skips quarantined files
+     * lists them in a warning; remove a line, or the file, to check them again.
+     */
+    @Parameter(property = "spellcheck.quarantineFile")
+    private File quarantineFile;
 
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
@@ -144,29 +287,35 @@ public class SpellCheckMojo extends AbstractMojo {
         }
 
         getLog().info("Starting spell check...");
-        getLog().info("Language: " + language);
+        getLog().info("Engine: " + engine);
         getLog().info("Encoding: " + (encoding != null ? encoding : "UTF-8"));
 
-        try {
+        // Start the expensive engine initialization and the file discovery right
+        // away, so that they overlap with loading the configuration. Without an
+        // explicit language, the default language is warmed up.
+        long started = System.nanoTime();
+        CompletableFuture<Long> warmUp = SpellChecker.warmUp(language, engine);
+
+        try (BackgroundFileSource files = new BackgroundFileSource(this::discoverFiles)) {
             // Initialize configuration
             SpellCheckConfiguration config = createConfiguration();
+            getLog().info("Language: " + config.getLanguage());
 
-            // Initialize spell checker
-            spellChecker = new SpellChecker(config, getLog());
+            // Initialize spell checker, reusing warm engines of previous executions
+            SpellCheckReport report;
+            try (SpellChecker spellChecker = new SpellChecker(config, getLog())) {
+                awaitWarmUp(warmUp, started);
 
-            // Get files to check
-            List<File> filesToCheck = getFilesToCheck();
+                // Check files while they are being discovered
+                report = spellChecker.check(files);
+            }
 
-            if (filesToCheck.isEmpty()) {
+            // Files that timed out or are quarantined still have to be reported
+            if (report.getFilesFound() == 0) {
                 getLog().warn("No files found to spell check.");
                 return;
             }
 
-            getLog().info("Checking " + filesToCheck.size() + " file(s)...");
-
-            // Perform spell checking
-            SpellCheckReport report = spellChecker.check(filesToCheck);
-
             // Generate reports if requested
             if (generateReport) {
                 generateTextReport(report);
@@ -194,10 +343,35 @@ public class SpellCheckMojo extends AbstractMojo {
         }
     }
 
+    /**
+     * Waits for the background engine warm-up and logs how much time running
+     * it alongside configuration loading and file discovery has saved.
+     */
+    private void awaitWarmUp(CompletableFuture<Long> warmUp, long started) throws InterruptedIOException {
+        long waitStarted = System.nanoTime();
+        try {
+            long warmUpMillis = warmUp.get();
+            if (warmUpMillis > 0) {
+                long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - waitStarted);
+                long overlapMillis = Math.max(0, warmUpMillis - waitedMillis);
+                getLog().info("Engine warm-up took " + warmUpMillis + " ms, of which " + overlapMillis
+                    + " ms overlapped with configuration loading and file discovery");
+                getLog().debug("Ready to check after "
+                    + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the engine warm-up");
+        } catch (ExecutionException e) {
+            // The check initializes the engine again and reports the failure itself
+            getLog().debug("Engine warm-up failed", e.getCause());
+        }
+    }
+
     /**
      * Creates the spell check configuration from plugin parameters.
      */
-    private SpellCheckConfiguration createConfiguration() throws IOException {
+    SpellCheckConfiguration createConfiguration() throws IOException {
         SpellCheckConfiguration config = new SpellCheckConfiguration();
 
         // Try to load CSpell configuration if enabled
@@ -223,6 +397,28 @@ public class SpellCheckMojo extends AbstractMojo {
         if (customDictionary != null) {
             config.setCustomDictionary(customDictionary);
         }
+        if (threads > 0) {
+            config.setThreads(threads);
+        }
+        config.setSpellingOnly(spellingOnly);
+        if (engine != null) {
+            config.setEngine(engine);
+        }
+        config.setWordCacheSize(wordCacheSize);
+        config.setResultCacheSize(resultCacheSize);
+        config.setResultCacheExpireMinutes(resultCacheExpireMinutes);
+        config.setPrescreen(prescreen);
+        config.setBatchSize(batchSize);
+        config.setBatchMaxFileSize(batchMaxFileSize);
+        config.setSegmentSize(segmentSize);
+        config.setEngineIdleTimeoutMinutes(engineIdleTimeoutMinutes);
+        config.setSnapshotDirectory(snapshot ? snapshotDirectory : null);
+        config.setMaxSuggestions(maxSuggestions);
+        if (maskedTokens != null) {
+            config.setMaskedTokens(Arrays.asList(maskedTokens));
+        }
+        config.setFileTimeoutSeconds(fileTimeoutSeconds);
+        config.setQuarantineFile(quarantineFile);
         if (ignoreWords != null && !ignoreWords.isEmpty()) {
             // Merge with existing ignore words from CSpell config
             List<String> mergedIgnoreWords = new ArrayList<>(config.getIgnoreWords());
@@ -267,11 +463,10 @@ public class SpellCheckMojo extends AbstractMojo {
     }
 
     /**
-     * Gets the list of files to spell check.
+     * Discovers the files to spell check and passes each one to the consumer
+     * as soon as it is found.
      */
-    private List<File> getFilesToCheck() throws IOException {
-        List<File> files = new ArrayList<>();
-
+    private void discoverFiles(FileSource.FileConsumer consumer) throws IOException {
         // Determine source directories
         List<File> dirsToScan = new ArrayList<>();
         if (sourceDirectories != null && sourceDirectories.length > 0) {
@@ -292,19 +487,20 @@ public class SpellCheckMojo extends AbstractMojo {
 
             // Check for README and markdown files in root
             File readme = new File(project.getBasedir(), "README.md");
-            if (readme.exists()) files.add(readme);
+            if (readme.exists()) consumer.accept(readme);
         }
 
-        // Scan directories and collect files
+        // Scan directories and hand over files as they are found
         for (File dir : dirsToScan) {
             try (Stream<Path> paths = Files.walk(dir.toPath())) {
-                paths.filter(Files::isRegularFile)
-                     .filter(this::shouldCheckFile)
-                     .forEach(p -> files.add(p.toFile()));
+                Iterator<Path> iterator = paths.filter(Files::isRegularFile)
+                                               .filter(this::shouldCheckFile)
+                                               .iterator();
+                while (iterator.hasNext()) {
+                    consumer.accept(iterator.next().toFile());
+                }
             }
         }
-
-        return files;
     }
 
     /**
@@ -382,6 +578,16 @@ public class SpellCheckMojo extends AbstractMojo {
         getLog().info("========================================");
         getLog().info("Files checked: " + report.getFilesChecked());
         getLog().info("Errors found: " + report.getErrorCount());
+        getLog().info("Unique misspelled words: " + report.getUniqueMisspellings().size());
+        if (!report.getTimedOutFiles().isEmpty()) {
+            getLog().warn("Files timed out: " + report.getTimedOutFiles().size());
+        }
+        if (!report.getQuarantinedFiles().isEmpty()) {
+            getLog().warn("Files quarantined: " + report.getQuarantinedFiles().size());
+        }
+        for (Map.Entry<String, String> statistic : report.getStatistics().entrySet()) {
+            getLog().info(statistic.getKey() + ": " + statistic.getValue());
+        }
 
         if (report.hasErrors()) {
             getLog().warn("Spell check completed with errors!");
@@ -0,0 +1,465 @@
+package io.nncdevel.maven.spellcheck;
+
+import io.nncdevel.maven.spellcheck.report.SpellCheckReport;
+import io.nncdevel.maven.spellcheck.report.SpellError;
+import org.apache.maven.plugin.logging.Log;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs a spell check as concurrent stages connected by bounded queues:
+ * <ol>
+ * <li>discover: the file source hands over files as it finds them;</li>
+ * <li>read: I/O threads read the files;</li>
+ * <li>dispatch: small files are grouped into batches and submitted for checking;</li>
+ * <li>check: fork/join workers extract the text to check and run the engines;</li>
+ * <li>sink: the calling thread adds results to the report in discovery order.</li>
+ * </ol>
+ * A file whose check times out is reported as timed out instead of checked,
+ * and the run continues with the other files.
+ * Each stage blocks when the next one falls behind, so memory use does not
+ * grow with the number of files. Files are admitted into a window of limited
+ * size when they are discovered, and leave it only when the sink has added
+ * them to the report in order, so a slow file holds back discovery rather
+ * than piling up the results of the files after it. The I/O stages run on
+ * virtual threads when the JDK supports them, and on a small pool of
+ * platform threads otherwise.
+ * <p>
+ * If a stage fails, even with an error, the sink rethrows the failure. The
+ * sink also stops if every stage has ended without delivering all results,
+ * so a run never hangs.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+class SpellCheckPipeline {
+
+    private static final int QUEUE_CAPACITY = 256;
+    private static final int VIRTUAL_READERS = 32;
+    private static final int PLATFORM_READERS = 4;
+
+    /**
+     * Maximum number of files between discovery and the sink.
+     */
+    private static final int MAX_FILES_IN_FLIGHT = 2 * QUEUE_CAPACITY;
+
+    /**
+     * Milliseconds the sink waits for a result before it checks whether
+     * any stage is still running.
+     */
+    private static final long STALL_CHECK_MILLIS = 200;
+
+    /**
+     * Marks the end of the files in the discovered and read queues.
+     */
+    private static final FileItem END = new FileItem(-1, null);
+
+    /**
+     * Tells the sink that discovery has finished.
+     */
+    private static final FileItem DISCOVERED = new FileItem(-1, null);
+
+    /**
+     * Tells the sink that a stage has failed.
+     */
+    private static final FileItem FAILED = new FileItem(-1, null);
+
+    private final SpellChecker checker;
+    private final int threads;
+    private final Log log;
+    private final BlockingQueue<FileItem> discovered = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final BlockingQueue<FileItem> read = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    // Holds every file in flight, plus the discovered and failed markers
+    private final BlockingQueue<FileItem> checked = new ArrayBlockingQueue<>(MAX_FILES_IN_FLIGHT + 2);
+    private final Semaphore filesInFlight = new Semaphore(MAX_FILES_IN_FLIGHT);
+    private final int maxPendingBatches;
+    private final Semaphore pendingBatches;
+    private final AtomicInteger runningStages = new AtomicInteger();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private volatile int fileCount = -1;
+
+    /**
+     * Creates a new pipeline.
+     *
+     * @param checker the spell checker that reads and checks the files
+     * @param threads the number of threads that check files
+     * @param log     the Maven logger
+     */
+    SpellCheckPipeline(SpellChecker checker, int threads, Log log) {
+        this.checker = checker;
+        this.threads = threads;
+        this.log = log;
+        // Keeps the dispatch stage from running far ahead of the check workers
+        this.maxPendingBatches = 2 * threads;
+        this.pendingBatches = new Semaphore(maxPendingBatches);
+    }
+
+    /**
+     * Checks all files of a source and adds the results to a report.
+     *
+     * @param source the source of the files to check
+     * @param report the report to update
+     * @throws IOException if discovery or file reading fails
+     */
+    void run(FileSource source, SpellCheckReport report) throws IOException {
+        ExecutorService ioExecutor = createVirtualThreadExecutor();
+        int readers = VIRTUAL_READERS;
+        if (ioExecutor == null) {
+            readers = PLATFORM_READERS;
+            // Discovery and dispatch need a thread each besides the readers
+            ioExecutor = Executors.newFixedThreadPool(readers + 2, new IoThreadFactory());
+        }
+        ForkJoinPool checkPool = new ForkJoinPool(threads, new WorkerThreadFactory(), null, false);
+        log.debug("Checking files using " + threads + " thread(s) and " + readers + " reader(s)");
+
+        int readerCount = readers;
+        try {
+            start(ioExecutor, () -> discover(source, readerCount));
+            for (int i = 0; i < readers; i++) {
+                start(ioExecutor, this::read);
+            }
+            start(ioExecutor, () -> dispatch(checkPool, readerCount));
+            collect(report);
+        } finally {
+            ioExecutor.shutdownNow();
+            checkPool.shutdownNow();
+        }
+    }
+
+    /**
+     * Starts a stage and keeps track of it until it ends.
+     *
+     * @param executor the executor of the stage
+     * @param stage    the stage
+     */
+    private void start(ExecutorService executor, Runnable stage) {
+        runningStages.incrementAndGet();
+        executor.execute(() -> {
+            try {
+                stage.run();
+            } finally {
+                runningStages.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * The discover stage: numbers the files of the source in discovery order.
+     *
+     * @param source  the source of the files
+     * @param readers the number of read stage threads
+     */
+    private void discover(FileSource source, int readers) {
+        try {
+            int[] sequence = new int[1];
+            source.forEachFile(file -> {
+                acquire(filesInFlight);
+                put(discovered, new FileItem(sequence[0]++, file));
+            });
+            for (int i = 0; i < readers; i++) {
+                put(discovered, END);
+            }
+            fileCount = sequence[0];
+            checked.add(DISCOVERED);
+        } catch (Throwable t) {
+            fail(t);
+        }
+    }
+
+    /**
+     * The read stage: reads discovered files until the end marker.
+     */
+    private void read() {
+        try {
+            FileItem item;
+            while ((item = take(discovered)) != END) {
+                item.text = checker.readFile(item.file);
+                put(read, item);
+            }
+            put(read, END);
+        } catch (Throwable t) {
+            fail(t);
+        }
+    }
+
+    /**
+     * The dispatch stage: groups small files into batches and submits them
+     * to the check pool. A partial batch is submitted as soon as no other
+     * file is ready, so that the check workers never wait for a full batch.
+     *
+     * @param checkPool the check pool
+     * @param readers   the number of read stage threads
+     */
+    private void dispatch(ForkJoinPool checkPool, int readers) {
+        try {
+            List<FileItem> batch = new ArrayList<>();
+            int finishedReaders = 0;
+            while (finishedReaders < readers) {
+                FileItem item = read.poll();
+                if (item == null) {
+                    submit(checkPool, batch);
+                    batch = new ArrayList<>();
+                    item = take(read);
+                }
+
+                if (item == END) {
+                    finishedReaders++;
+                } else if (checker.isBatchable(item.text)) {
+                    batch.add(item);
+                    if (batch.size() >= checker.getBatchSize()) {
+                        submit(checkPool, batch);
+                        batch = new ArrayList<>();
+                    }
+                } else {
+                    submit(checkPool, Collections.singletonList(item));
+                }
+            }
+            submit(checkPool, batch);
+        } catch (Throwable t) {
+            fail(t);
+        }
+    }
+
+    /**
+     * Submits a batch to the check stage, waiting while too many batches are pending.
+     *
+     * @param checkPool the check pool
+     * @param batch     the files to check together
+     * @throws InterruptedIOException if the pipeline is shut down while waiting
+     */
+    private void submit(ForkJoinPool checkPool, List<FileItem> batch) throws InterruptedIOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        acquire(pendingBatches);
+
+        checkPool.execute(() -> {
+            try {
+                List<SpellChecker.FileText> texts = new ArrayList<>(batch.size());
+                for (FileItem item : batch) {
+                    texts.add(item.text);
+                }
+                List<List<SpellError>> errors = checker.checkBatch(texts);
+                for (int i = 0; i < batch.size(); i++) {
+                    FileItem item = batch.get(i);
+                    item.text = null;
+                    item.errors = errors.get(i);
+                    checked.add(item);
+                }
+            } catch (Throwable t) {
+                fail(t);
+            } finally {
+                pendingBatches.release();
+            }
+        });
+    }
+
+    /**
+     * The sink stage: adds checked files to the report in discovery order,
+     * and lets a new file into the pipeline for each file it has added.
+     *
+     * @param report the report to update
+     * @throws IOException if a stage has failed
+     * @throws Error if a stage has failed with an error, such as a linkage error
+     */
+    private void collect(SpellCheckReport report) throws IOException {
+        Map<Integer, FileItem> pending = new HashMap<>();
+        int next = 0;
+
+        while (fileCount < 0 || next < fileCount) {
+            FileItem item = poll(checked);
+            if (item == null) {
+                if (!isStalled()) {
+                    continue;
+                }
+                // Results are queued before their stage ends, so a stalled pipeline has none left
+                item = checked.poll();
+                if (item == null) {
+                    throw new IOException("Spell check stages ended before checking all files");
+                }
+            }
+            if (item == FAILED) {
+                Throwable cause = failure.get();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IOException("Error while checking files", cause);
+            }
+            if (item != DISCOVERED) {
+                pending.put(item.sequence, item);
+            }
+
+            FileItem ready;
+            while ((ready = pending.remove(next)) != null) {
+                if (ready.errors == null) {
+                    report.addTimedOutFile(ready.file);
+                } else {
+                    report.incrementFilesChecked();
+                    for (SpellError error : ready.errors) {
+                        report.addError(error);
+                    }
+                }
+                filesInFlight.release();
+                next++;
+            }
+        }
+    }
+
+    /**
+     * Checks whether the pipeline can make no more progress: every I/O
+     * stage has ended and no batch is being checked.
+     *
+     * @return true if no stage will add another result
+     */
+    private boolean isStalled() {
+        return runningStages.get() == 0 && pendingBatches.availablePermits() == maxPendingBatches;
+    }
+
+    /**
+     * Records the failure of a stage and wakes up the sink. Every stage
+     * reports any throwable here, so that the sink never waits for a stage
+     * that has died. Errors are rethrown after they have been recorded, so
+     * that they still reach the thread's uncaught exception handler.
+     *
+     * @param cause the failure
+     */
+    private void fail(Throwable cause) {
+        if (failure.compareAndSet(null, cause)) {
+            checked.add(FAILED);
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+    }
+
+    private static void acquire(Semaphore semaphore) throws InterruptedIOException {
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Spell check aborted");
+        }
+    }
+
+    private static void put(BlockingQueue<FileItem> queue, FileItem item) throws InterruptedIOException {
+        try {
+            queue.put(item);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Spell check aborted");
+        }
+    }
+
+    private static FileItem poll(BlockingQueue<FileItem> queue) throws InterruptedIOException {
+        try {
+            return queue.poll(STALL_CHECK_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Spell check aborted");
+        }
+    }
+
+    private static FileItem take(BlockingQueue<FileItem> queue) throws InterruptedIOException {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Spell check aborted");
+        }
+    }
+
+    /**
+     * Creates an executor that runs each task in a new virtual thread.
+     * Virtual threads are looked up reflectively so that the plugin still runs on JDK 11.
+     *
+     * @return the executor, or null if the JDK does not support virtual threads
+     */
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A file passing through the pipeline.
+     */
+    private static final class FileItem {
+
+        final int sequence;
+        final File file;
+        SpellChecker.FileText text;
+        List<SpellError> errors;
+
+        FileItem(int sequence, File file) {
+            this.sequence = sequence;
+            this.file = file;
+        }
+    }
+
+    /**
+     * Creates the daemon platform threads of the I/O stages on JDKs without virtual threads.
+     */
+    private static class IoThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "spellcheck-io-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    /**
+     * Creates the fork/join worker threads. They are daemon threads, so an
+     * aborted build cannot hang on them, and they use the plugin's class loader
+     * so that LanguageTool can find its resources.
+     */
+    private static class WorkerThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+        private final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            ForkJoinWorkerThread thread = new WorkerThread(pool);
+            thread.setName("spellcheck-worker-" + counter.incrementAndGet());
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        }
+    }
+
+    /**
+     * A fork/join worker thread of the spell checker.
+     */
+    private static class WorkerThread extends ForkJoinWorkerThread {
+
+        WorkerThread(ForkJoinPool pool) {
+            super(pool);
+        }
+    }
+}
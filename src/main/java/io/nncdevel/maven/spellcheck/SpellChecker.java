@@ -1,36 +1,113 @@
 package io.nncdevel.maven.spellcheck;
 
 import io.nncdevel.maven.spellcheck.config.SpellCheckConfiguration;
+import io.nncdevel.maven.spellcheck.engine.AdditionalLanguages;
+import io.nncdevel.maven.spellcheck.engine.CompoundWordSplitter;
+import io.nncdevel.maven.spellcheck.engine.EngineContext;
+import io.nncdevel.maven.spellcheck.engine.EngineRegistry;
+import io.nncdevel.maven.spellcheck.engine.EngineResources;
+import io.nncdevel.maven.spellcheck.engine.EngineSnapshot;
+import io.nncdevel.maven.spellcheck.engine.EngineType;
+import io.nncdevel.maven.spellcheck.engine.EngineWarmup;
+import io.nncdevel.maven.spellcheck.engine.InstancePool;
+import io.nncdevel.maven.spellcheck.engine.KnownWordFilter;
+import io.nncdevel.maven.spellcheck.engine.SharedLanguages;
+import io.nncdevel.maven.spellcheck.engine.SharedResultCache;
+import io.nncdevel.maven.spellcheck.engine.SpellerDictionary;
+import io.nncdevel.maven.spellcheck.engine.SpellingEngine;
+import io.nncdevel.maven.spellcheck.engine.SpellingMatch;
+import io.nncdevel.maven.spellcheck.engine.WordVerdictCache;
 import io.nncdevel.maven.spellcheck.report.SpellCheckReport;
 import io.nncdevel.maven.spellcheck.report.SpellError;
+import io.nncdevel.maven.spellcheck.text.FlagWordMatcher;
+import io.nncdevel.maven.spellcheck.text.InlineDirectives;
+import io.nncdevel.maven.spellcheck.text.LineIndex;
+import io.nncdevel.maven.spellcheck.text.ParagraphSplitter;
+import io.nncdevel.maven.spellcheck.text.RegionSelector;
+import io.nncdevel.maven.spellcheck.text.SuggestionIndex;
+import io.nncdevel.maven.spellcheck.text.TextBatch;
+import io.nncdevel.maven.spellcheck.text.TextMasker;
+import io.nncdevel.maven.spellcheck.text.TextRange;
+import io.nncdevel.maven.spellcheck.text.TokenClass;
+import io.nncdevel.maven.spellcheck.text.TokenMasker;
+import io.nncdevel.maven.spellcheck.text.WordSet;
 import org.apache.maven.plugin.logging.Log;
-import org.languagetool.JLanguageTool;
-import org.languagetool.language.AmericanEnglish;
-import org.languagetool.language.BritishEnglish;
-import org.languagetool.rules.RuleMatch;
+import org.languagetool.Language;
+import org.languagetool.ResultCache;
+import org.languagetool.rules.spelling.morfologik.MorfologikSpellerRule;
 
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 /**
- * Core spell checker implementation using LanguageTool.
+ * Core spell checker implementation using LanguageTool dictionaries.
+ * Engines are taken from the {@link EngineRegistry}, so spell checkers with
+ * the same effective configuration share warm LanguageTool instances.
+ * Close the spell checker to hand them back. A watchdog cancels the check
+ * of a file that exceeds the time limit; the file is reported as timed out,
+ * and it is added to the quarantine file, if configured, so that later runs
+ * skip it.
  *
  * @author T. Izuno
  * @since 1.0.0
  */
-public class SpellChecker {
+public class SpellChecker implements AutoCloseable {
+
+    /**
+     * The probability that the pre-screen lets a misspelled word pass as known.
+     */
+    private static final double PRESCREEN_FALSE_POSITIVE_PROBABILITY = 0.0001;
+
+    /**
+     * The maximum edit distance of a project word suggested for a misspelling.
+     */
+    private static final int PROJECT_SUGGESTION_DISTANCE = 2;
+
+    /**
+     * The message of errors reported for forbidden words.
+     */
+    private static final String FLAG_WORD_MESSAGE = "Forbidden word";
 
     private final SpellCheckConfiguration config;
     private final Log log;
-    private final JLanguageTool languageTool;
-    private final Set<String> ignoreWords;
+    private final WordSet ignoreWords;
+    private final List<String> vocabulary = new ArrayList<>();
+    private final SuggestionIndex suggestionIndex;
+    private final FlagWordMatcher flagWordMatcher;
+    private final TextMasker textMasker;
+    private final RegionSelector regionSelector;
+    private final TokenMasker tokenMasker;
+    private final List<Object> registryKey;
+    private final EngineResources resources;
+    private final InstancePool<SpellingEngine> engines;
+    private final WordVerdictCache wordCache;
+    private final ResultCache resultCache;
+    private final KnownWordFilter knownWordFilter;
+    private final CompoundWordSplitter compoundWordSplitter;
+    private final AdditionalLanguages additionalLanguages;
+    private final FileWatchdog watchdog;
+    private final Quarantine quarantine;
+    private final AtomicLong unselectedFiles = new AtomicLong();
+    private boolean closed;
 
     /**
      * Creates a new spell checker with the given configuration.
@@ -42,8 +119,6 @@ public class SpellChecker {
     public SpellChecker(SpellCheckConfiguration config, Log log) throws IOException {
         this.config = config;
         this.log = log;
-        this.languageTool = createLanguageTool(config.getLanguage());
-        this.ignoreWords = new HashSet<>();
 
         // Add custom words to ignore
         if (config.getCustomDictionary() != null && config.getCustomDictionary().exists()) {
@@ -52,28 +127,374 @@ public class SpellChecker {
 
         // Add ignore words from configuration
         if (config.getIgnoreWords() != null) {
-            for (String word : config.getIgnoreWords()) {
-                ignoreWords.add(word.toLowerCase());
+            vocabulary.addAll(config.getIgnoreWords());
+        }
+        this.ignoreWords = new WordSet(vocabulary, config.isCaseSensitive());
+        this.suggestionIndex = new SuggestionIndex(
+            config.getMaxSuggestions() > 0 ? vocabulary : Collections.emptyList(), PROJECT_SUGGESTION_DISTANCE);
+        log.debug("Indexed " + suggestionIndex.size() + " project word(s) for suggestions");
+        this.flagWordMatcher = config.getFlagWords() != null && !config.getFlagWords().isEmpty()
+            ? new FlagWordMatcher(config.getFlagWords()) : null;
+        if (flagWordMatcher != null) {
+            log.debug("Compiled " + flagWordMatcher.size() + " forbidden word(s)");
+        }
+        List<Pattern> ignorePatterns = compilePatterns(config.getIgnoreRegExpList(), "ignored");
+        this.textMasker = ignorePatterns.isEmpty() ? null : new TextMasker(ignorePatterns);
+        List<Pattern> includePatterns = compilePatterns(config.getIncludeRegExpList(), "included");
+        this.regionSelector = includePatterns.isEmpty() ? null : new RegionSelector(includePatterns);
+        this.tokenMasker = createTokenMasker();
+        this.watchdog = config.getFileTimeoutSeconds() > 0
+            ? new FileWatchdog(TimeUnit.SECONDS.toMillis(config.getFileTimeoutSeconds())) : null;
+        this.quarantine = loadQuarantine();
+
+        this.registryKey = createRegistryKey();
+        if (EngineRegistry.contains(registryKey)) {
+            log.info("Reusing spelling engines initialized by a previous execution");
+        }
+        this.resources = EngineRegistry.acquire(registryKey, this::createResources);
+        this.engines = resources.getEngines();
+        this.wordCache = resources.getContext().getWordCache();
+        this.resultCache = resources.getContext().getResultCache();
+        this.knownWordFilter = resources.getKnownWordFilter();
+        this.compoundWordSplitter = resources.getCompoundWordSplitter();
+        this.additionalLanguages = resources.getAdditionalLanguages();
+    }
+
+    /**
+     * Starts initializing the engine for a language in the background, so
+     * that it overlaps with loading the configuration and discovering files.
+     * Unsupported values are replaced by the defaults, as the constructor does.
+     * Only the first of several comma-separated languages is warmed up.
+     *
+     * @param language the language code, or comma-separated language codes
+     * @param engine   the engine name
+     * @return a future for the duration of the warm-up in milliseconds,
+     *         which is zero if the engine was already warmed up in this JVM
+     */
+    public static CompletableFuture<Long> warmUp(String language, String engine) {
+        Language resolved = SharedLanguages.get(splitLanguages(language).get(0));
+        EngineType type = EngineType.fromName(engine);
+        return EngineWarmup.start(resolved != null ? resolved : SharedLanguages.get(null),
+            type != null ? type : EngineType.LANGUAGETOOL);
+    }
+
+    /**
+     * Creates the masker of the configured token classes. Unknown class
+     * names are reported and skipped.
+     *
+     * @return the token masker, or null if no token class is masked
+     */
+    private TokenMasker createTokenMasker() {
+        List<TokenClass> tokenClasses = new ArrayList<>();
+        if (config.getMaskedTokens() != null) {
+            for (String name : config.getMaskedTokens()) {
+                if (name == null || name.trim().isEmpty()) {
+                    continue;
+                }
+                TokenClass tokenClass = TokenClass.fromName(name.trim());
+                if (tokenClass != null) {
+                    tokenClasses.add(tokenClass);
+                } else {
+                    log.warn("Ignoring unknown token class: " + name);
+                }
+            }
+        }
+        return tokenClasses.isEmpty() ? null : new TokenMasker(tokenClasses);
+    }
+
+    /**
+     * Loads the list of files that timed out in previous runs.
+     *
+     * @return the quarantine list, or null if timed out files are not remembered
+     */
+    private Quarantine loadQuarantine() {
+        File file = config.getQuarantineFile();
+        if (file == null) {
+            return null;
+        }
+
+        try {
+            Quarantine loaded = Quarantine.load(file);
+            if (loaded.size() > 0) {
+                log.info("Skipping " + loaded.size() + " quarantined file(s) listed in: " + file.getAbsolutePath());
+            }
+            return loaded;
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable quarantine file " + file.getAbsolutePath() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Compiles regular expressions of the configuration. Invalid expressions
+     * are reported and skipped.
+     *
+     * @param expressions the regular expressions, or null
+     * @param kind        what the expressions select, for logging
+     * @return the compiled patterns
+     */
+    private List<Pattern> compilePatterns(List<String> expressions, String kind) {
+        List<Pattern> patterns = new ArrayList<>();
+        if (expressions == null) {
+            return patterns;
+        }
+
+        for (String expression : expressions) {
+            try {
+                patterns.add(TextMasker.compile(expression));
+            } catch (PatternSyntaxException e) {
+                log.warn("Ignoring invalid regular expression " + expression + ": " + e.getDescription());
+            }
+        }
+        if (!patterns.isEmpty()) {
+            log.debug("Compiled " + patterns.size() + " " + kind + " regular expression(s)");
+        }
+        return patterns;
+    }
+
+    /**
+     * Creates the registry key from every configuration value that the
+     * engine resources depend on. Settings that only affect how files are
+     * read and scheduled are left out, so they do not prevent reuse.
+     *
+     * @return the registry key
+     */
+    private List<Object> createRegistryKey() {
+        return Arrays.asList(
+            config.getLanguage(),
+            config.getEngine(),
+            config.isSpellingOnly(),
+            new TreeSet<>(ignoreWords.toList()),
+            config.isCaseSensitive(),
+            getThreadCount(),
+            config.isPrescreen(),
+            config.getWordCacheSize(),
+            config.getResultCacheSize(),
+            config.getResultCacheExpireMinutes(),
+            config.getMaxSuggestions(),
+            config.isAllowCompoundWords()
+        );
+    }
+
+    /**
+     * Creates the engine resources for the configuration of this spell checker.
+     *
+     * If snapshots are enabled, the pre-screen filter and the word verdicts
+     * are restored from the snapshot of a previous run when possible.
+     *
+     * @return the engine resources
+     * @throws IOException if the pre-screen filter cannot be built
+     */
+    private EngineResources createResources() throws IOException {
+        List<String> languageCodes = splitLanguages(config.getLanguage());
+        Language language = resolveLanguage(languageCodes.get(0));
+        EngineType engineType = resolveEngineType(config.getEngine());
+        EngineSnapshot snapshot = readSnapshot();
+        WordVerdictCache wordCache = new WordVerdictCache(config.getWordCacheSize());
+        if (snapshot != null) {
+            snapshot.getVerdicts().forEach(wordCache::put);
+        }
+        ResultCache resultCache = engineType == EngineType.LANGUAGETOOL
+            ? SharedResultCache.get(config.getResultCacheSize(), config.getResultCacheExpireMinutes())
+            : null;
+        EngineContext context = new EngineContext(language, config, wordCache, ignoreWords, resultCache);
+        KnownWordFilter knownWordFilter = null;
+        if (config.isPrescreen()) {
+            knownWordFilter = snapshot != null && snapshot.getBloomFilter() != null
+                ? new KnownWordFilter(snapshot.getBloomFilter())
+                : createKnownWordFilter(language);
+        }
+        CompoundWordSplitter compoundWordSplitter = config.isAllowCompoundWords()
+            ? createCompoundWordSplitter(language) : null;
+        // Engines are not thread-safe, so each worker thread borrows its own instance
+        InstancePool<SpellingEngine> engines = new InstancePool<>(getThreadCount(), () -> engineType.create(context));
+        AdditionalLanguages additionalLanguages = createAdditionalLanguages(
+            languageCodes.subList(1, languageCodes.size()), language);
+        return new EngineResources(context, engines, knownWordFilter, compoundWordSplitter, additionalLanguages);
+    }
+
+    /**
+     * Creates the speller pools of the languages after the first one.
+     * Unsupported languages, languages without a speller dictionary and
+     * repetitions of the first language are reported and skipped.
+     *
+     * @param codes the language codes after the first one
+     * @param first the first language
+     * @return the additional languages, or null if there are none
+     */
+    private AdditionalLanguages createAdditionalLanguages(List<String> codes, Language first) {
+        List<InstancePool<MorfologikSpellerRule>> pools = new ArrayList<>();
+        List<Language> languages = new ArrayList<>();
+        languages.add(first);
+        for (String code : codes) {
+            Language language = SharedLanguages.get(code);
+            if (language == null) {
+                log.warn("Unsupported language: " + code + ". Skipping it.");
+                continue;
+            }
+            if (languages.contains(language)) {
+                continue;
+            }
+            InstancePool<MorfologikSpellerRule> pool = new InstancePool<>(getThreadCount(),
+                () -> SpellerDictionary.createRule(language));
+            try {
+                // Create the first speller right away, so that a missing dictionary is reported here
+                pool.release(pool.borrow());
+            } catch (IOException e) {
+                log.warn(e.getMessage() + ". Skipping it.");
+                continue;
+            }
+            languages.add(language);
+            pools.add(pool);
+        }
+        if (pools.isEmpty()) {
+            return null;
+        }
+        log.debug("Words rejected by " + first.getShortCodeWithCountryAndVariant()
+            + " are checked against " + pools.size() + " more language(s)");
+        return new AdditionalLanguages(pools, config.getWordCacheSize());
+    }
+
+    /**
+     * Splits a comma-separated list of language codes, as CSpell allows.
+     *
+     * @param language the language codes, or null
+     * @return the language codes in order, with null for the default language if there are none
+     */
+    static List<String> splitLanguages(String language) {
+        List<String> codes = new ArrayList<>();
+        if (language != null) {
+            for (String code : language.split(",")) {
+                if (!code.trim().isEmpty()) {
+                    codes.add(code.trim());
+                }
             }
         }
+        if (codes.isEmpty()) {
+            codes.add(null);
+        }
+        return codes;
+    }
+
+    /**
+     * Creates the compound word splitter over the speller dictionary and the ignored words.
+     *
+     * @param language the language
+     * @return the splitter, or null if the language has no speller dictionary
+     */
+    private CompoundWordSplitter createCompoundWordSplitter(Language language) {
+        try {
+            return CompoundWordSplitter.create(language, new WordSet(vocabulary, false).toList(), Math.max(config.getWordCacheSize(), 1024));
+        } catch (IOException e) {
+            log.warn("Compound words cannot be accepted for " + config.getLanguage() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Gets the snapshot file for the configuration of this spell checker.
+     *
+     * @return the snapshot file, or null if snapshots are disabled
+     */
+    private File getSnapshotFile() {
+        File directory = config.getSnapshotDirectory();
+        return directory != null ? EngineSnapshot.getFile(directory, registryKey.toString()) : null;
+    }
+
+    /**
+     * Reads the snapshot of a previous run.
+     *
+     * @return the snapshot, or null if snapshots are disabled or no usable snapshot exists
+     */
+    private EngineSnapshot readSnapshot() {
+        File file = getSnapshotFile();
+        if (file == null) {
+            return null;
+        }
+
+        try {
+            EngineSnapshot snapshot = EngineSnapshot.read(file, registryKey.toString());
+            if (snapshot != null) {
+                log.info("Restored engine snapshot with " + snapshot.getVerdicts().size()
+                    + " word verdict(s) from: " + file.getAbsolutePath());
+            }
+            return snapshot;
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable engine snapshot " + file.getAbsolutePath() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Writes the current state of the engine resources to the snapshot file.
+     */
+    private void writeSnapshot() {
+        File file = getSnapshotFile();
+        if (file == null) {
+            return;
+        }
+
+        try {
+            EngineSnapshot.write(file, registryKey.toString(),
+                knownWordFilter != null ? knownWordFilter.getBloomFilter() : null, wordCache);
+            log.debug("Engine snapshot written to: " + file.getAbsolutePath());
+        } catch (IOException e) {
+            log.warn("Failed to write engine snapshot " + file.getAbsolutePath() + ": " + e.getMessage());
+        }
     }
 
     /**
-     * Creates a JLanguageTool instance for the specified language.
+     * Resolves the LanguageTool language for the specified language code.
+     * The returned instance is shared by all engines in the JVM.
      *
      * @param language the language code
-     * @return the JLanguageTool instance
-     */
-    private JLanguageTool createLanguageTool(String language) {
-        if (language == null || language.startsWith("en-US")) {
-            return new JLanguageTool(new AmericanEnglish());
-        } else if (language.startsWith("en-GB")) {
-            return new JLanguageTool(new BritishEnglish());
-        } else {
+     * @return the language
+     */
+    private Language resolveLanguage(String language) {
+        Language resolved = SharedLanguages.get(language);
+        if (resolved == null) {
             // Default to American English
             log.warn("Unsupported language: " + language + ". Defaulting to en-US.");
-            return new JLanguageTool(new AmericanEnglish());
+            return SharedLanguages.get(null);
+        }
+        return resolved;
+    }
+
+    /**
+     * Resolves the spelling engine type for the specified engine name.
+     *
+     * @param engine the engine name
+     * @return the engine type
+     */
+    private EngineType resolveEngineType(String engine) {
+        EngineType type = EngineType.fromName(engine);
+        if (type == null) {
+            log.warn("Unsupported engine: " + engine + ". Defaulting to " + EngineType.LANGUAGETOOL.getName() + ".");
+            return EngineType.LANGUAGETOOL;
         }
+        return type;
+    }
+
+    /**
+     * Creates the pre-screen filter from the speller dictionary and the ignored words.
+     *
+     * @param language the language
+     * @return the known word filter
+     * @throws IOException if the dictionary cannot be loaded
+     */
+    private KnownWordFilter createKnownWordFilter(Language language) throws IOException {
+        List<String> dictionaryWords = SpellerDictionary.loadWords(language);
+        log.debug("Pre-screen filter built from " + dictionaryWords.size() + " dictionary word(s)");
+        return KnownWordFilter.create(dictionaryWords, ignoreWords, PRESCREEN_FALSE_POSITIVE_PROBABILITY);
+    }
+
+    /**
+     * Gets the number of threads used to check files.
+     *
+     * @return the number of threads, at least one
+     */
+    private int getThreadCount() {
+        return Math.max(1, config.getThreads());
     }
 
     /**
@@ -90,7 +511,7 @@ public class SpellChecker {
             while ((line = reader.readLine()) != null) {
                 line = line.trim();
                 if (!line.isEmpty() && !line.startsWith("#")) {
-                    ignoreWords.add(line.toLowerCase());
+                    vocabulary.add(line);
                 }
             }
         }
@@ -100,104 +521,572 @@ public class SpellChecker {
 
     /**
      * Checks the given files for spelling errors.
+     * Results are added to the report in the order of the given list.
      *
      * @param files the files to check
      * @return the spell check report
      * @throws IOException if file reading fails
      */
     public SpellCheckReport check(List<File> files) throws IOException {
+        return check(consumer -> {
+            for (File file : files) {
+                consumer.accept(file);
+            }
+        });
+    }
+
+    /**
+     * Checks the files of a source for spelling errors while they are being
+     * discovered. Discovery, reading and checking run as concurrent stages of
+     * a {@link SpellCheckPipeline}, but results are added to the report in
+     * discovery order regardless of the number of threads and the batch size.
+     * Quarantined files are skipped before they are read, and listed in the
+     * report and in a warning. If included regular expressions match no text in some files,
+     * a warning tells how many files were not checked for that reason.
+     *
+     * @param source the source of the files to check
+     * @return the spell check report
+     * @throws IOException if discovery or file reading fails
+     */
+    public SpellCheckReport check(FileSource source) throws IOException {
         SpellCheckReport report = new SpellCheckReport();
+        RunStatistics statistics = new RunStatistics();
+        long unselectedBefore = unselectedFiles.get();
 
-        for (File file : files) {
-            log.debug("Checking file: " + file.getAbsolutePath());
-            checkFile(file, report);
-        }
+        List<File> quarantined = Collections.synchronizedList(new ArrayList<>());
+        FileSource checkedFiles = quarantine == null ? source : consumer -> source.forEachFile(file -> {
+            if (quarantine.contains(file)) {
+                log.debug("Skipping quarantined file: " + file.getAbsolutePath());
+                quarantined.add(file);
+            } else {
+                consumer.accept(file);
+            }
+        });
+        new SpellCheckPipeline(this, getThreadCount(), log).run(checkedFiles, report);
 
+        statistics.addTo(report);
+        if (quarantine != null) {
+            quarantined.forEach(report::addQuarantinedFile);
+            report.addStatistic("Quarantine", "skipped " + quarantined.size() + " file(s)");
+            if (!quarantined.isEmpty()) {
+                log.warn("Skipped " + quarantined.size() + " quarantined file(s) without checking them;"
+                    + " remove them from " + quarantine.getFile().getAbsolutePath() + " to check them again:");
+                for (File file : quarantined) {
+                    log.warn("  " + file.getPath());
+                }
+            }
+        }
+        long unselected = unselectedFiles.get() - unselectedBefore;
+        if (unselected > 0) {
+            log.warn("The included regular expressions matched no text in " + unselected
+                + " file(s), so nothing was checked in them; check includeRegExpList if this is unexpected");
+        }
         return report;
     }
 
     /**
-     * Checks a single file for spelling errors.
+     * Checks whether a file is small enough to be checked in a batch with other files.
      *
-     * @param file   the file to check
-     * @param report the report to update
-     * @throws IOException if file reading fails
+     * @param text the file text
+     * @return true if the file may be batched
+     */
+    boolean isBatchable(FileText text) {
+        return config.getBatchSize() > 1 && text.size <= config.getBatchMaxFileSize();
+    }
+
+    /**
+     * Gets the maximum number of small files checked with a single engine call.
+     *
+     * @return the batch size, at least one
      */
-    private void checkFile(File file, SpellCheckReport report) throws IOException {
-        report.incrementFilesChecked();
+    int getBatchSize() {
+        return Math.max(1, config.getBatchSize());
+    }
 
-        String content = readFile(file);
+    /**
+     * Checks a batch of files for spelling errors and forbidden words.
+     * Forbidden words are found in the whole text of each file, and replace
+     * any spelling error the engine reports at the same position.
+     *
+     * @param texts the files to check
+     * @return the errors found in each file ordered by position, in the order of the given list,
+     *         with null for a file whose check timed out
+     * @throws IOException if an engine cannot be created
+     */
+    List<List<SpellError>> checkBatch(List<FileText> texts) throws IOException {
+        List<List<SpellError>> errors = checkSpelling(texts);
+        if (flagWordMatcher != null) {
+            for (int i = 0; i < texts.size(); i++) {
+                if (errors.get(i) != null) {
+                    addFlagWordErrors(texts.get(i), errors.get(i));
+                }
+            }
+        }
+        return errors;
+    }
 
-        if (content.trim().isEmpty()) {
-            log.debug("Skipping empty file: " + file.getName());
+    /**
+     * Adds an error for each forbidden word in a file.
+     *
+     * @param text   the file
+     * @param errors the spelling errors of the file, to be updated
+     */
+    private void addFlagWordErrors(FileText text, List<SpellError> errors) {
+        List<FlagWordMatcher.Match> matches = flagWordMatcher.find(text.content);
+        if (matches.isEmpty()) {
             return;
         }
 
-        try {
-            List<RuleMatch> matches = languageTool.check(content);
+        LineIndex lineIndex = new LineIndex(text.content);
+        for (FlagWordMatcher.Match match : matches) {
+            int line = lineIndex.getLine(match.getStart());
+            int column = lineIndex.getColumn(match.getStart());
+            errors.removeIf(error -> error.getLine() == line && error.getColumn() == column);
+            errors.add(new SpellError(
+                text.file,
+                line,
+                column,
+                text.content.substring(match.getStart(), match.getEnd()),
+                FLAG_WORD_MESSAGE,
+                match.getReplacement().isEmpty()
+                    ? Collections.emptyList() : Collections.singletonList(match.getReplacement())
+            ));
+        }
+        errors.sort(Comparator.comparingInt(SpellError::getLine).thenComparingInt(SpellError::getColumn));
+    }
 
-            for (RuleMatch match : matches) {
-                // Only report spelling errors, not grammar errors
-                if (isSpellingError(match)) {
-                    String word = content.substring(match.getFromPos(), match.getToPos());
+    /**
+     * Checks a batch of files for spelling errors with a single engine call.
+     * The text to check is extracted from each file first. Files larger than
+     * the segment size are split on paragraph boundaries into segments that
+     * are checked as separate fork/join tasks. If the engine fails on a batch
+     * of several files or exceeds the time limit, they are checked one by
+     * one so that a single problematic file does not hide errors in the
+     * others. A single file that exceeds the time limit is quarantined.
+     *
+     * @param texts the files to check
+     * @return the errors found in each file, in the order of the given list,
+     *         with null for a file whose check timed out
+     * @throws IOException if an engine cannot be created
+     */
+    private List<List<SpellError>> checkSpelling(List<FileText> texts) throws IOException {
+        List<List<SpellError>> errors = new ArrayList<>(texts.size());
+        List<TextBatch> chunks = new ArrayList<>();
+        TextBatch batch = new TextBatch();
 
-                    // Skip words that are in the ignore list
-                    if (ignoreWords.contains(word.toLowerCase())) {
-                        continue;
-                    }
+        for (int i = 0; i < texts.size(); i++) {
+            File file = texts.get(i).file;
+            String content = texts.get(i).content;
+            List<TextRange> regions = texts.get(i).regions;
+            errors.add(new ArrayList<>());
 
-                    SpellError error = new SpellError(
-                        file,
-                        match.getLine() + 1,
-                        match.getColumn() + 1,
-                        word,
-                        match.getMessage(),
-                        match.getSuggestedReplacements()
-                    );
-
-                    report.addError(error);
-
-                    if (log.isDebugEnabled()) {
-                        log.debug(String.format(
-                            "Error in %s at line %d: %s",
-                            file.getName(),
-                            error.getLine(),
-                            error.getWord()
-                        ));
+            if (content.trim().isEmpty()) {
+                log.debug("Skipping empty file: " + file.getName());
+                continue;
+            }
+
+            List<TextRange> ranges = knownWordFilter != null
+                ? knownWordFilter.findUncertainRanges(content)
+                : Collections.singletonList(new TextRange(0, content.length()));
+            if (regions != null) {
+                ranges = RegionSelector.intersect(ranges, regions);
+            }
+            if (ranges.isEmpty()) {
+                log.debug("All words are known, skipping file: " + file.getName());
+                continue;
+            }
+            int segmentSize = config.getSegmentSize();
+            for (TextRange range : ranges) {
+                if (segmentSize > 0 && content.length() > segmentSize) {
+                    for (TextRange segment : ParagraphSplitter.split(content, range, segmentSize)) {
+                        TextBatch chunk = new TextBatch();
+                        chunk.add(i, content, segment);
+                        chunks.add(chunk);
                     }
+                } else {
+                    batch.add(i, content, range);
                 }
             }
+        }
 
+        if (batch.size() > 0) {
+            chunks.add(batch);
+        }
+        if (chunks.isEmpty()) {
+            return errors;
+        }
+
+        List<List<SpellingMatch>> matches;
+        FileWatchdog.Ticket ticket = watchdog != null ? watchdog.start() : null;
+        try {
+            matches = checkChunks(chunks, ticket);
         } catch (Exception e) {
-            log.warn("Error checking file " + file.getName() + ": " + e.getMessage());
+            if (texts.size() == 1) {
+                if (ticket != null && ticket.isExpired()) {
+                    quarantine(texts.get(0).file);
+                    errors.set(0, null);
+                } else {
+                    log.warn("Error checking file " + texts.get(0).file.getName() + ": " + e.getMessage());
+                }
+                return errors;
+            }
+            matches = null;
+        } finally {
+            if (ticket != null) {
+                ticket.close();
+            }
+        }
+
+        if (matches == null) {
+            log.debug("Error checking batch of " + texts.size() + " file(s), checking them one by one");
+            errors.clear();
+            for (FileText text : texts) {
+                errors.add(checkSpelling(Collections.singletonList(text)).get(0));
+            }
+            return errors;
+        }
+
+        LineIndex[] lineIndexes = new LineIndex[texts.size()];
+        for (int c = 0; c < chunks.size(); c++) {
+            addErrors(texts, chunks.get(c), matches.get(c), lineIndexes, errors);
+        }
+
+        return errors;
+    }
+
+    /**
+     * Reports a file whose check timed out, and adds it to the quarantine file if configured.
+     *
+     * @param file the file
+     */
+    private void quarantine(File file) {
+        log.warn("Checking file " + file.getPath() + " timed out after "
+            + TimeUnit.MILLISECONDS.toSeconds(watchdog.getTimeoutMillis()) + " second(s)");
+        if (quarantine == null) {
+            return;
+        }
+
+        try {
+            quarantine.add(file);
+            log.info("Quarantined " + file.getPath() + " in: " + quarantine.getFile().getAbsolutePath());
+        } catch (IOException e) {
+            log.warn("Failed to update quarantine file " + quarantine.getFile().getAbsolutePath() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Converts the matches found in a chunk to errors of the files it was built from.
+     *
+     * @param texts       the files of the batch
+     * @param chunk       the checked chunk
+     * @param matches     the matches found in the chunk
+     * @param lineIndexes the line index of each file, created on demand
+     * @param errors      the errors of each file, to be updated
+     * @throws IOException if an engine of an additional language cannot be created or fails
+     */
+    private void addErrors(List<FileText> texts, TextBatch chunk, List<SpellingMatch> matches,
+                           LineIndex[] lineIndexes, List<List<SpellError>> errors) throws IOException {
+        for (SpellingMatch match : matches) {
+            int segment = chunk.getSegment(match.getFromPos());
+            int index = chunk.getOwner(segment);
+            File file = texts.get(index).file;
+            String content = texts.get(index).content;
+            int fromPos = chunk.toSourceOffset(segment, match.getFromPos());
+            int toPos = chunk.toSourceOffset(segment, match.getToPos());
+
+            // Engines already accept ignored words; this catches case variants they may still flag
+            if (ignoreWords.contains(content, fromPos, toPos)
+                || texts.get(index).ignoreWords.contains(content, fromPos, toPos)) {
+                continue;
+            }
+            String word = content.substring(fromPos, toPos);
+            if (compoundWordSplitter != null && compoundWordSplitter.isCompound(word)) {
+                continue;
+            }
+            if (additionalLanguages != null && additionalLanguages.accepts(word)) {
+                continue;
+            }
+
+            if (lineIndexes[index] == null) {
+                lineIndexes[index] = new LineIndex(content);
+            }
+            SpellError error = new SpellError(
+                file,
+                lineIndexes[index].getLine(fromPos),
+                lineIndexes[index].getColumn(fromPos),
+                word,
+                match.getMessage(),
+                () -> suggest(word, match)
+            );
+
+            errors.get(index).add(error);
+
+            if (log.isDebugEnabled()) {
+                log.debug(String.format(
+                    "Error in %s at line %d: %s",
+                    file.getName(),
+                    error.getLine(),
+                    error.getWord()
+                ));
+            }
+        }
+    }
+
+    /**
+     * Builds the suggestions for a misspelled word. Project words within a
+     * small edit distance come first, because they are the most likely
+     * correction in a project's own text and the engine never suggests them.
+     * The engine's suggestions fill the remaining places, and are not
+     * computed at all if the project words fill the limit.
+     *
+     * @param word  the misspelled word
+     * @param match the match reported by the engine
+     * @return at most {@code maxSuggestions} suggestions
+     */
+    private List<String> suggest(String word, SpellingMatch match) {
+        int limit = config.getMaxSuggestions();
+        List<String> suggestions = suggestionIndex.suggest(word, limit);
+        if (suggestions.size() < limit) {
+            for (String suggestion : match.getSuggestions()) {
+                if (suggestions.size() >= limit) {
+                    break;
+                }
+                if (!suggestions.contains(suggestion)) {
+                    suggestions.add(suggestion);
+                }
+            }
+        }
+        return suggestions;
+    }
+
+    /**
+     * Checks chunks of text, in parallel if called from a fork/join worker.
+     *
+     * @param chunks the chunks to check
+     * @param ticket the time limit of the check, or null if there is none
+     * @return the matches found in each chunk, in the order of the given list
+     * @throws IOException if an engine cannot be created or fails
+     * @throws CancellationException if the time limit expires
+     */
+    private List<List<SpellingMatch>> checkChunks(List<TextBatch> chunks, FileWatchdog.Ticket ticket)
+            throws IOException {
+        if (chunks.size() > 1 && ForkJoinTask.inForkJoinPool()) {
+            try {
+                return new ChunkTask(chunks, 0, chunks.size(), ticket).invoke();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
         }
+
+        List<List<SpellingMatch>> matches = new ArrayList<>(chunks.size());
+        for (TextBatch chunk : chunks) {
+            matches.add(checkChunk(chunk, ticket));
+        }
+        return matches;
     }
 
     /**
-     * Reads the content of a file.
+     * Checks a single chunk of text with a pooled engine. Once the time
+     * limit has expired, the remaining chunks of the file are not started.
+     *
+     * @param chunk  the chunk to check
+     * @param ticket the time limit of the check, or null if there is none
+     * @return the matches found in the chunk
+     * @throws IOException if an engine cannot be created or fails
+     * @throws CancellationException if the time limit expires
+     */
+    private List<SpellingMatch> checkChunk(TextBatch chunk, FileWatchdog.Ticket ticket) throws IOException {
+        if (ticket != null && ticket.isExpired()) {
+            throw new CancellationException("Check cancelled");
+        }
+        SpellingEngine engine = engines.borrow();
+        try {
+            return ticket != null ? engine.check(chunk.getText(), ticket) : engine.check(chunk.getText());
+        } finally {
+            engines.release(engine);
+        }
+    }
+
+    /**
+     * Writes the engine snapshot if enabled, and hands the engines back to
+     * the registry, which keeps them warm for later executions until the
+     * idle timeout expires.
+     */
+    @Override
+    public synchronized void close() {
+        if (!closed) {
+            closed = true;
+            if (watchdog != null) {
+                watchdog.close();
+            }
+            writeSnapshot();
+            EngineRegistry.release(registryKey, config.getEngineIdleTimeoutMinutes());
+        }
+    }
+
+    /**
+     * Gets the engine resources used by this spell checker.
+     *
+     * @return the engine resources
+     */
+    EngineResources getResources() {
+        return resources;
+    }
+
+    /**
+     * Reads the content of a file. If included regular expressions are
+     * configured, only the regions they match are kept, and files in which
+     * they match nothing are counted so that the run can warn about them.
+     * Regions disabled by CSpell inline directives are always dropped. Masked
+     * token classes, such as URLs and hashes, and text matching an ignored
+     * regular expression are blanked afterwards. Blanked text is neither
+     * checked for spelling nor for forbidden words, while offsets stay those
+     * of the file.
      *
      * @param file the file to read
-     * @return the file content
+     * @return the file text
      * @throws IOException if reading fails
      */
-    private String readFile(File file) throws IOException {
+    FileText readFile(File file) throws IOException {
+        log.debug("Checking file: " + file.getAbsolutePath());
+
         Charset charset = Charset.forName(config.getEncoding());
         byte[] bytes = Files.readAllBytes(file.toPath());
-        return new String(bytes, charset);
+        String content = new String(bytes, charset);
+        InlineDirectives directives = InlineDirectives.parse(content);
+        List<TextRange> regions = regionSelector != null ? regionSelector.select(content) : null;
+        if (regions != null && regions.isEmpty() && !content.isEmpty()) {
+            log.debug("No included text in file: " + file.getAbsolutePath());
+            unselectedFiles.incrementAndGet();
+        }
+        if (!directives.getDisabledRanges().isEmpty()) {
+            List<TextRange> enabled = directives.getEnabledRanges(content.length());
+            regions = regions != null ? RegionSelector.intersect(regions, enabled) : enabled;
+        }
+        if (regions != null) {
+            content = RegionSelector.maskOutside(content, regions);
+        }
+        if (tokenMasker != null) {
+            content = tokenMasker.mask(content);
+        }
+        if (textMasker != null) {
+            content = textMasker.mask(content);
+        }
+        WordSet localIgnoreWords = directives.getIgnoreWords().isEmpty()
+            ? WordSet.empty() : new WordSet(directives.getIgnoreWords(), config.isCaseSensitive());
+        return new FileText(file, content, bytes.length, regions, localIgnoreWords);
     }
 
     /**
-     * Determines if a rule match is a spelling error.
-     *
-     * @param match the rule match
-     * @return true if it's a spelling error
+     * The content of a file that has been read for checking. If included
+     * regular expressions or disabled regions narrow the text to check,
+     * the regions are the only parts of the content to check; otherwise
+     * they are null. The ignore words are those of the file's
+     * {@code cspell:ignore} directives.
+     */
+    static final class FileText {
+
+        final File file;
+        final String content;
+        final long size;
+        final List<TextRange> regions;
+        final WordSet ignoreWords;
+
+        FileText(File file, String content, long size, List<TextRange> regions, WordSet ignoreWords) {
+            this.file = file;
+            this.content = content;
+            this.size = size;
+            this.regions = regions;
+            this.ignoreWords = ignoreWords;
+        }
+    }
+
+    /**
+     * Checks a range of chunks by recursively splitting it in halves, so
+     * that idle workers can steal the segments of a large file. Tasks are
+     * never serialized, so their state is transient.
      */
-    private boolean isSpellingError(RuleMatch match) {
-        String ruleId = match.getRule().getId();
-        // Check if it's a spelling-related rule
-        return ruleId.contains("SPELL") ||
-               ruleId.contains("MORFOLOGIK") ||
-               ruleId.contains("HUNSPELL") ||
-               ruleId.contains("TYPO");
+    private class ChunkTask extends RecursiveTask<List<List<SpellingMatch>>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<TextBatch> chunks;
+        private final int from;
+        private final int to;
+        private final transient FileWatchdog.Ticket ticket;
+
+        ChunkTask(List<TextBatch> chunks, int from, int to, FileWatchdog.Ticket ticket) {
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
+            this.ticket = ticket;
+        }
+
+        @Override
+        protected List<List<SpellingMatch>> compute() {
+            if (to - from == 1) {
+                try {
+                    return Collections.singletonList(checkChunk(chunks.get(from), ticket));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            int middle = (from + to) >>> 1;
+            ChunkTask left = new ChunkTask(chunks, from, middle, ticket);
+            left.fork();
+            List<List<SpellingMatch>> right = new ChunkTask(chunks, middle, to, ticket).compute();
+            List<List<SpellingMatch>> result = new ArrayList<>(left.join());
+            result.addAll(right);
+            return result;
+        }
+    }
+
+    /**
+     * Collects cache, pre-screen and masking statistics of a single run. The result cache is shared
+     * by the whole JVM, so its counters are recorded relative to the start of the run.
+     */
+    private class RunStatistics {
+
+        private final long wordCacheHits = wordCache.getHitCount();
+        private final long wordCacheMisses = wordCache.getMissCount();
+        private final long resultCacheHits = resultCache != null ? resultCache.hitCount() : 0;
+        private final double resultCacheRequests = resultCache != null ? resultCache.requestCount() : 0;
+        private final long paragraphs = knownWordFilter != null ? knownWordFilter.getParagraphCount() : 0;
+        private final long skippedParagraphs = knownWordFilter != null ? knownWordFilter.getSkippedParagraphCount() : 0;
+        private final long maskedCharacters = tokenMasker != null ? tokenMasker.getMaskedCharacterCount() : 0;
+
+        /**
+         * Adds the statistics collected since this object was created to the report.
+         *
+         * @param report the report to update
+         */
+        void addTo(SpellCheckReport report) {
+            long hits = wordCache.getHitCount() - wordCacheHits;
+            long misses = wordCache.getMissCount() - wordCacheMisses;
+            report.addStatistic("Word cache", formatHitRate(hits, hits + misses));
+
+            if (resultCache != null) {
+                report.addStatistic("Result cache", formatHitRate(
+                    resultCache.hitCount() - resultCacheHits,
+                    (long) (resultCache.requestCount() - resultCacheRequests)));
+            }
+
+            if (knownWordFilter != null) {
+                report.addStatistic("Pre-screen", String.format("skipped %d of %d paragraph(s)",
+                    knownWordFilter.getSkippedParagraphCount() - skippedParagraphs,
+                    knownWordFilter.getParagraphCount() - paragraphs));
+            }
+
+            if (tokenMasker != null) {
+                report.addStatistic("Masked tokens", String.format("skipped %d character(s)",
+                    tokenMasker.getMaskedCharacterCount() - maskedCharacters));
+            }
+        }
+
+        private String formatHitRate(long hits, long lookups) {
+            return String.format("%d hit(s) of %d lookup(s) (%.1f%% hit rate)",
+                hits, lookups, lookups > 0 ? 100.0 * hits / lookups : 0.0);
+        }
     }
 }
@@ -6,8 +6,10 @@ import org.apache.maven.plugin.logging.Log;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -261,10 +263,15 @@ public class CSpellConfigLoader {
 
         // Set language
         if (cspellConfig.getLanguage() != null) {
-            // CSpell can have multiple languages separated by comma (e.g., "en,nl")
-            // For now, use the first one
-            String language = cspellConfig.getLanguage().split(",")[0].trim();
-            config.setLanguage(language);
+            // CSpell can have multiple languages separated by comma (e.g., "en,nl"),
+            // and a word is only an error if all of them reject it
+            List<String> languages = new ArrayList<>();
+            for (String language : cspellConfig.getLanguage().split(",")) {
+                if (!language.trim().isEmpty()) {
+                    languages.add(language.trim());
+                }
+            }
+            config.setLanguage(String.join(",", languages));
         }
 
         // Merge words and ignoreWords
@@ -277,6 +284,63 @@ public class CSpellConfigLoader {
         }
         config.setIgnoreWords(allIgnoreWords);
 
+        if (Boolean.TRUE.equals(cspellConfig.getAllowCompoundWords())) {
+            config.setAllowCompoundWords(true);
+        }
+        if (Boolean.TRUE.equals(cspellConfig.getCaseSensitive())) {
+            config.setCaseSensitive(true);
+        }
+        if (cspellConfig.getFlagWords() != null) {
+            config.setFlagWords(new ArrayList<>(cspellConfig.getFlagWords()));
+        }
+        config.setIgnoreRegExpList(resolvePatterns(cspellConfig.getIgnoreRegExpList(), cspellConfig.getPatterns(),
+            "ignoreRegExpList"));
+        config.setIncludeRegExpList(resolvePatterns(cspellConfig.getIncludeRegExpList(), cspellConfig.getPatterns(),
+            "includeRegExpList"));
+
         return config;
     }
+
+    /**
+     * Resolves references to named patterns in a list of regular expressions.
+     * An entry that is the name of a pattern is replaced by its expression.
+     * Patterns declared in the configuration take precedence over the
+     * patterns that CSpell predefines, and any other entry is a regular
+     * expression itself. An entry that looks like a name but matches no
+     * pattern is kept as a regular expression, as CSpell does, with a warning.
+     *
+     * @param expressions the regular expressions and pattern names
+     * @param patterns    the named patterns
+     * @param listName    the name of the list, for the warning
+     * @return the regular expressions
+     */
+    private List<String> resolvePatterns(List<String> expressions, List<CSpellConfig.Pattern> patterns, String listName) {
+        Map<String, String> named = new HashMap<>();
+        if (patterns != null) {
+            for (CSpellConfig.Pattern pattern : patterns) {
+                if (pattern.getName() != null && pattern.getPattern() != null) {
+                    named.put(pattern.getName(), pattern.getPattern());
+                }
+            }
+        }
+
+        List<String> resolved = new ArrayList<>();
+        if (expressions != null) {
+            for (String expression : expressions) {
+                List<String> predefined = CSpellPatterns.get(expression);
+                if (named.containsKey(expression)) {
+                    resolved.add(named.get(expression));
+                } else if (predefined != null) {
+                    resolved.addAll(predefined);
+                } else {
+                    if (CSpellPatterns.isName(expression)) {
+                        log.warn("Unknown pattern name in " + listName + ", matching it as a regular expression: "
+                            + expression);
+                    }
+                    resolved.add(expression);
+                }
+            }
+        }
+        return resolved;
+    }
 }
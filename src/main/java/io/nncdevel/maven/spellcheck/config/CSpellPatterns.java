@@ -0,0 +1,92 @@
+package io.nncdevel.maven.spellcheck.config;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * The patterns that CSpell predefines, such as {@code Urls},
+ * {@code HexValues}, {@code CStyleComment} and {@code string}, so that
+ * they can be referenced by name in {@code ignoreRegExpList} and
+ * {@code includeRegExpList} without being declared in {@code patterns}.
+ * The expressions follow those of CSpell, rewritten where Java does not
+ * support the JavaScript syntax, such as look-behinds of unbounded length.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+final class CSpellPatterns {
+
+    private static final Pattern NAME = Pattern.compile("[A-Za-z][\\w-]*");
+
+    private static final String SPELL_CHECKER_DISABLE_BLOCK =
+        "/(\\bc?spell(?:-?checker)?::?)\\s*disable(?!-line|-next)\\b[\\s\\S]*?((?:\\1\\s*enable\\b)|$)/gi";
+    private static final String SPELL_CHECKER_DISABLE_LINE =
+        "/^.*\\bc?spell(?:-?checker)?::?\\s*disable-line\\b.*/gim";
+    private static final String SPELL_CHECKER_DISABLE_NEXT =
+        "/\\bc?spell(?:-?checker)?::?\\s*disable-next\\b.*\\s\\s?.*/gi";
+
+    private static final Map<String, List<String>> PREDEFINED = new HashMap<>();
+
+    static {
+        define("Urls", "/(?:https?|ftp)://[^\\s\"]+/gi");
+        define("HexValues", "/(?:#[0-9a-f]{3,8})|(?:0x[0-9a-f]+)|(?:\\\\u[0-9a-f]{4})|(?:\\\\x\\{[0-9a-f]{4}\\})/gi");
+        define("CommitHash", "/\\b(?![a-f]+\\b)(?:0x)?[0-9a-f]{7,}\\b/gi");
+        define("CommitHashLink", "/\\[[0-9a-f]{7,}\\]/gi");
+        define("CStyleHexValue", "/\\b0x[0-9a-f_]+\\b/gi");
+        define("CSSHexValue", "/#[0-9a-f]{3,8}\\b/gi");
+        define("UUID", "/\\b[0-9a-fx]{8}-[0-9a-fx]{4}-[0-9a-fx]{4}-[0-9a-fx]{4}-[0-9a-fx]{12}\\b/gi");
+        define("UnicodeRef", "/\\bU\\+[0-9a-f]{4,5}(?:-[0-9a-f]{4,5})?/gi");
+        define("Email", "/<?\\b[\\w.\\-+]{1,128}@\\w{1,63}(\\.\\w{1,63}){1,4}\\b>?/gi");
+        define("SHA", "/\\bsha\\d+-[a-z0-9+/]{25,}={0,3}/gi");
+        define("EscapeCharacters", "/\\\\(?:[anrvtbf]|[xu][a-f0-9]+)/gi");
+        define("Base64", "/(?<![A-Za-z0-9/+])(?:[A-Za-z0-9/+]{40,})(?:\\s^\\s*[A-Za-z0-9/+]{40,})*"
+            + "(?:\\s^\\s*[A-Za-z0-9/+]+=*)?(?![A-Za-z0-9/+=])/gm");
+        define("PublicKey", "/-{5}BEGIN\\s+((?:RSA\\s+)?PUBLIC\\s+KEY)[\\w=+\\-/=\\\\\\s]+?END\\s+\\1-{5}/g");
+        define("RsaCert", "/-{5}BEGIN\\s+(CERTIFICATE|(?:RSA\\s+)?(?:PRIVATE|PUBLIC)\\s+KEY)"
+            + "[\\w=+\\-/=\\\\\\s]+?END\\s+\\1-{5}/g");
+        define("SshRsa", "/ssh-rsa\\s+[a-z0-9/+]{28,}={0,3}(?![a-z0-9/+=])/gi");
+        define("href", "/\\bhref\\s*=\\s*\".*?\"/gi");
+        define("SpellCheckerDisable", SPELL_CHECKER_DISABLE_BLOCK, SPELL_CHECKER_DISABLE_LINE, SPELL_CHECKER_DISABLE_NEXT);
+        define("SpellCheckerDisableBlock", SPELL_CHECKER_DISABLE_BLOCK);
+        define("SpellCheckerDisableLine", SPELL_CHECKER_DISABLE_LINE);
+        define("SpellCheckerDisableNext", SPELL_CHECKER_DISABLE_NEXT);
+        define("SpellCheckerIgnoreInDocSetting", "/\\bc?spell(?:-?checker)?::?\\s*ignoreRegExp.*/gim");
+        // JavaScript allows the look-behind that skips escaped quotes, Java does not
+        define("string", "/\"(?:[^\"\\\\\\n]|\\\\.)*\"|'(?:[^'\\\\\\n]|\\\\.)*'|`(?:[^`\\\\]|\\\\[\\s\\S])*`/g");
+        define("CStyleComment", "/(?<!\\w:)(?://.*)|(?:/\\*[\\s\\S]*?\\*/)/g");
+        define("PythonStyleComment", "/#.*|(?:('''|\"\"\")[\\s\\S]+?\\1)/gm");
+        define("Everything", "/.*/s");
+    }
+
+    private CSpellPatterns() {
+    }
+
+    private static void define(String name, String... expressions) {
+        PREDEFINED.put(name, Collections.unmodifiableList(Arrays.asList(expressions)));
+    }
+
+    /**
+     * Gets the expressions of a predefined pattern.
+     *
+     * @param name the pattern name, which is case-sensitive
+     * @return the regular expressions of the pattern, or null if no pattern has the name
+     */
+    static List<String> get(String name) {
+        return PREDEFINED.get(name);
+    }
+
+    /**
+     * Checks whether an entry of a regular expression list looks like the
+     * name of a pattern rather than like a regular expression.
+     *
+     * @param expression the entry
+     * @return true if the entry is a plain identifier
+     */
+    static boolean isName(String expression) {
+        return NAME.matcher(expression).matches();
+    }
+}
@@ -2,6 +2,7 @@ package io.nncdevel.maven.spellcheck.config;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -16,11 +17,32 @@ public class SpellCheckConfiguration {
     private String encoding = "UTF-8";
     private File customDictionary;
     private List<String> ignoreWords = new ArrayList<>();
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private boolean spellingOnly = true;
+    private String engine = "languagetool";
+    private int wordCacheSize = 50000;
+    private long resultCacheSize = 10000;
+    private long resultCacheExpireMinutes = 60;
+    private boolean prescreen = false;
+    private int batchSize = 50;
+    private long batchMaxFileSize = 4096;
+    private int segmentSize = 65536;
+    private long engineIdleTimeoutMinutes = 10;
+    private File snapshotDirectory;
+    private int maxSuggestions = 5;
+    private boolean allowCompoundWords = false;
+    private boolean caseSensitive = false;
+    private List<String> flagWords = new ArrayList<>();
+    private List<String> ignoreRegExpList = new ArrayList<>();
+    private List<String> includeRegExpList = new ArrayList<>();
+    private List<String> maskedTokens = new ArrayList<>(Arrays.asList("url", "email", "uuid", "hash", "base64"));
+    private long fileTimeoutSeconds = 120;
+    private File quarantineFile;
 
     /**
      * Gets the language for spell checking.
      *
-     * @return the language code (e.g., "en-US")
+     * @return the language code (e.g., "en-US"), or comma-separated language codes
      */
     public String getLanguage() {
         return language;
@@ -29,7 +51,7 @@ public class SpellCheckConfiguration {
     /**
      * Sets the language for spell checking.
      *
-     * @param language the language code
+     * @param language the language code, or comma-separated language codes
      */
     public void setLanguage(String language) {
         this.language = language;
@@ -88,4 +110,388 @@ public class SpellCheckConfiguration {
     public void setIgnoreWords(List<String> ignoreWords) {
         this.ignoreWords = ignoreWords;
     }
+
+    /**
+     * Gets the number of threads used to check files in parallel.
+     *
+     * @return the number of threads
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Sets the number of threads used to check files in parallel.
+     *
+     * @param threads the number of threads
+     */
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Checks whether only spelling rules are enabled in the engine.
+     *
+     * @return true if grammar and style rules are disabled
+     */
+    public boolean isSpellingOnly() {
+        return spellingOnly;
+    }
+
+    /**
+     * Sets whether only spelling rules are enabled in the engine.
+     *
+     * @param spellingOnly true to disable grammar and style rules
+     */
+    public void setSpellingOnly(boolean spellingOnly) {
+        this.spellingOnly = spellingOnly;
+    }
+
+    /**
+     * Gets the spelling engine name.
+     *
+     * @return the engine name ("languagetool" or "speller")
+     */
+    public String getEngine() {
+        return engine;
+    }
+
+    /**
+     * Sets the spelling engine name.
+     *
+     * @param engine the engine name
+     */
+    public void setEngine(String engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * Gets the maximum number of words in the word verdict cache.
+     *
+     * @return the cache size; zero disables the cache
+     */
+    public int getWordCacheSize() {
+        return wordCacheSize;
+    }
+
+    /**
+     * Sets the maximum number of words in the word verdict cache.
+     *
+     * @param wordCacheSize the cache size; zero disables the cache
+     */
+    public void setWordCacheSize(int wordCacheSize) {
+        this.wordCacheSize = wordCacheSize;
+    }
+
+    /**
+     * Gets the maximum number of sentences in the LanguageTool result cache.
+     *
+     * @return the cache size; zero disables the cache
+     */
+    public long getResultCacheSize() {
+        return resultCacheSize;
+    }
+
+    /**
+     * Sets the maximum number of sentences in the LanguageTool result cache.
+     *
+     * @param resultCacheSize the cache size; zero disables the cache
+     */
+    public void setResultCacheSize(long resultCacheSize) {
+        this.resultCacheSize = resultCacheSize;
+    }
+
+    /**
+     * Gets the minutes after which unused result cache entries expire.
+     *
+     * @return the expiry in minutes
+     */
+    public long getResultCacheExpireMinutes() {
+        return resultCacheExpireMinutes;
+    }
+
+    /**
+     * Sets the minutes after which unused result cache entries expire.
+     *
+     * @param resultCacheExpireMinutes the expiry in minutes
+     */
+    public void setResultCacheExpireMinutes(long resultCacheExpireMinutes) {
+        this.resultCacheExpireMinutes = resultCacheExpireMinutes;
+    }
+
+    /**
+     * Checks whether text whose words are all known skips the engine.
+     *
+     * @return true if the pre-screen is enabled
+     */
+    public boolean isPrescreen() {
+        return prescreen;
+    }
+
+    /**
+     * Sets whether text whose words are all known skips the engine.
+     *
+     * @param prescreen true to enable the pre-screen
+     */
+    public void setPrescreen(boolean prescreen) {
+        this.prescreen = prescreen;
+    }
+
+    /**
+     * Gets the maximum number of small files checked with a single engine call.
+     *
+     * @return the batch size
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the maximum number of small files checked with a single engine call.
+     *
+     * @param batchSize the batch size; 1 disables batching
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Gets the maximum size of a file that is checked in a batch.
+     *
+     * @return the maximum file size in bytes
+     */
+    public long getBatchMaxFileSize() {
+        return batchMaxFileSize;
+    }
+
+    /**
+     * Sets the maximum size of a file that is checked in a batch.
+     *
+     * @param batchMaxFileSize the maximum file size in bytes
+     */
+    public void setBatchMaxFileSize(long batchMaxFileSize) {
+        this.batchMaxFileSize = batchMaxFileSize;
+    }
+
+    /**
+     * Gets the number of characters above which a file is split into segments.
+     *
+     * @return the segment size
+     */
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * Sets the number of characters above which a file is split into segments.
+     *
+     * @param segmentSize the segment size; zero keeps all files whole
+     */
+    public void setSegmentSize(int segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Gets the minutes that unused engines are kept for later executions in the same JVM.
+     *
+     * @return the idle timeout in minutes
+     */
+    public long getEngineIdleTimeoutMinutes() {
+        return engineIdleTimeoutMinutes;
+    }
+
+    /**
+     * Sets the minutes that unused engines are kept for later executions in the same JVM.
+     *
+     * @param engineIdleTimeoutMinutes the idle timeout in minutes; zero releases engines after each execution
+     */
+    public void setEngineIdleTimeoutMinutes(long engineIdleTimeoutMinutes) {
+        this.engineIdleTimeoutMinutes = engineIdleTimeoutMinutes;
+    }
+
+    /**
+     * Gets the directory of the engine snapshots.
+     *
+     * @return the snapshot directory, or null if snapshots are disabled
+     */
+    public File getSnapshotDirectory() {
+        return snapshotDirectory;
+    }
+
+    /**
+     * Sets the directory of the engine snapshots.
+     *
+     * @param snapshotDirectory the snapshot directory, or null to disable snapshots
+     */
+    public void setSnapshotDirectory(File snapshotDirectory) {
+        this.snapshotDirectory = snapshotDirectory;
+    }
+
+    /**
+     * Gets the maximum number of suggestions per misspelled word.
+     *
+     * @return the suggestion limit
+     */
+    public int getMaxSuggestions() {
+        return maxSuggestions;
+    }
+
+    /**
+     * Sets the maximum number of suggestions per misspelled word.
+     *
+     * @param maxSuggestions the suggestion limit; zero disables suggestions
+     */
+    public void setMaxSuggestions(int maxSuggestions) {
+        this.maxSuggestions = maxSuggestions;
+    }
+
+    /**
+     * Checks whether words made of two or more known words are accepted.
+     *
+     * @return true if compound words are accepted
+     */
+    public boolean isAllowCompoundWords() {
+        return allowCompoundWords;
+    }
+
+    /**
+     * Sets whether words made of two or more known words are accepted.
+     *
+     * @param allowCompoundWords true to accept compound words
+     */
+    public void setAllowCompoundWords(boolean allowCompoundWords) {
+        this.allowCompoundWords = allowCompoundWords;
+    }
+
+    /**
+     * Checks whether ignored words only match with their case.
+     *
+     * @return true if ignored words are case-sensitive
+     */
+    public boolean isCaseSensitive() {
+        return caseSensitive;
+    }
+
+    /**
+     * Sets whether ignored words only match with their case.
+     *
+     * @param caseSensitive true to match ignored words with their case
+     */
+    public void setCaseSensitive(boolean caseSensitive) {
+        this.caseSensitive = caseSensitive;
+    }
+
+    /**
+     * Gets the words that are always reported as errors.
+     *
+     * @return the list of forbidden words
+     */
+    public List<String> getFlagWords() {
+        return flagWords;
+    }
+
+    /**
+     * Sets the words that are always reported as errors. A word may be
+     * followed by {@code ->} and its replacement.
+     *
+     * @param flagWords the list of forbidden words
+     */
+    public void setFlagWords(List<String> flagWords) {
+        this.flagWords = flagWords;
+    }
+
+    /**
+     * Gets the regular expressions of text that is not checked.
+     *
+     * @return the list of regular expressions
+     */
+    public List<String> getIgnoreRegExpList() {
+        return ignoreRegExpList;
+    }
+
+    /**
+     * Sets the regular expressions of text that is not checked. An
+     * expression may use the JavaScript literal form, such as {@code /0x[0-9a-f]+/gi}.
+     *
+     * @param ignoreRegExpList the list of regular expressions
+     */
+    public void setIgnoreRegExpList(List<String> ignoreRegExpList) {
+        this.ignoreRegExpList = ignoreRegExpList;
+    }
+
+    /**
+     * Gets the regular expressions of the only text that is checked.
+     *
+     * @return the list of regular expressions
+     */
+    public List<String> getIncludeRegExpList() {
+        return includeRegExpList;
+    }
+
+    /**
+     * Sets the regular expressions of the only text that is checked, such
+     * as comments and string literals. If the list is empty, all text is checked.
+     *
+     * @param includeRegExpList the list of regular expressions
+     */
+    public void setIncludeRegExpList(List<String> includeRegExpList) {
+        this.includeRegExpList = includeRegExpList;
+    }
+
+    /**
+     * Gets the classes of tokens, such as URLs and hashes, that are blanked before checking.
+     *
+     * @return the list of token class names
+     */
+    public List<String> getMaskedTokens() {
+        return maskedTokens;
+    }
+
+    /**
+     * Sets the classes of tokens that are blanked before checking. The
+     * supported classes are url, email, uuid, hash and base64.
+     *
+     * @param maskedTokens the list of token class names
+     */
+    public void setMaskedTokens(List<String> maskedTokens) {
+        this.maskedTokens = maskedTokens;
+    }
+
+    /**
+     * Gets the time limit for checking a single file.
+     *
+     * @return the time limit in seconds
+     */
+    public long getFileTimeoutSeconds() {
+        return fileTimeoutSeconds;
+    }
+
+    /**
+     * Sets the time limit for checking a single file. A file that takes
+     * longer is cancelled and reported as timed out.
+     *
+     * @param fileTimeoutSeconds the time limit in seconds; zero disables it
+     */
+    public void setFileTimeoutSeconds(long fileTimeoutSeconds) {
+        this.fileTimeoutSeconds = fileTimeoutSeconds;
+    }
+
+    /**
+     * Gets the file listing the files that are skipped because they timed out before.
+     *
+     * @return the quarantine file, or null if timed out files are not remembered
+     */
+    public File getQuarantineFile() {
+        return quarantineFile;
+    }
+
+    /**
+     * Sets the file listing the files that are skipped because they timed
+     * out before. Files that time out are appended to it.
+     *
+     * @param quarantineFile the quarantine file, or null to not remember timed out files
+     */
+    public void setQuarantineFile(File quarantineFile) {
+        this.quarantineFile = quarantineFile;
+    }
 }
@@ -0,0 +1,72 @@
+package io.nncdevel.maven.spellcheck.engine;
+
+import org.languagetool.rules.spelling.morfologik.MorfologikSpellerRule;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The languages after the first one of a multi-language configuration.
+ * The first language checks all text; a word it rejects is only an error
+ * if every additional language rejects it too. The word is looked up in
+ * the speller dictionary of each additional language, like the speller
+ * engine does, so grammar and style rules never see it as an isolated
+ * text. Each additional language has its own pool of spellers, and the
+ * verdicts are cached per word, so words that the first language accepts
+ * never reach them.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public class AdditionalLanguages {
+
+    private final List<InstancePool<MorfologikSpellerRule>> spellers;
+    private final WordVerdictCache verdicts;
+
+    /**
+     * Creates the additional languages.
+     *
+     * @param spellers  a pool of speller rules for each additional language, in order of precedence
+     * @param cacheSize the maximum number of words whose verdict is cached
+     */
+    public AdditionalLanguages(List<InstancePool<MorfologikSpellerRule>> spellers, int cacheSize) {
+        this.spellers = new ArrayList<>(spellers);
+        this.verdicts = new WordVerdictCache(cacheSize);
+    }
+
+    /**
+     * Checks whether any additional language accepts a word.
+     *
+     * @param word the word that the first language rejected
+     * @return true if an additional language accepts the word
+     * @throws IOException if a speller cannot be created or fails
+     */
+    public boolean accepts(String word) throws IOException {
+        return !verdicts.get(word, this::lookup).isMisspelled();
+    }
+
+    /**
+     * Gets the number of additional languages.
+     *
+     * @return the language count
+     */
+    public int size() {
+        return spellers.size();
+    }
+
+    private WordVerdictCache.Verdict lookup(String word) throws IOException {
+        for (InstancePool<MorfologikSpellerRule> pool : spellers) {
+            MorfologikSpellerRule speller = pool.borrow();
+            try {
+                if (!speller.isMisspelled(word)) {
+                    return WordVerdictCache.Verdict.correct();
+                }
+            } finally {
+                pool.release(speller);
+            }
+        }
+        return WordVerdictCache.Verdict.misspelled(Collections.emptyList());
+    }
+}
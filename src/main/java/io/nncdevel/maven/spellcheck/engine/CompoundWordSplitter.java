@@ -0,0 +1,210 @@
+package io.nncdevel.maven.spellcheck.engine;
+
+import morfologik.fsa.FSA;
+import morfologik.stemming.Dictionary;
+import org.languagetool.Language;
+import org.languagetool.rules.spelling.morfologik.MorfologikSpeller;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Accepts compound words such as {@code filewatcher} or {@code threadpool}
+ * that consist entirely of known words, as CSpell does with
+ * {@code allowCompoundWords}. A word is segmented by dynamic programming:
+ * from every position where a segmentation can continue, the speller
+ * dictionary's automaton is walked one character at a time, and every
+ * position where a dictionary word ends becomes a new reachable position.
+ * Project words are accepted as parts too. Every part must have at least
+ * {@value #MIN_PART_LENGTH} letters, so that short words like {@code a}
+ * or {@code is} cannot glue arbitrary misspellings together.
+ * The result of each distinct word is memoized. The splitter is thread-safe.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public class CompoundWordSplitter {
+
+    /**
+     * The minimum number of letters in each part of a compound word.
+     */
+    public static final int MIN_PART_LENGTH = 3;
+
+    private final FSA fsa;
+    private final byte separator;
+    private final Charset charset;
+    private final Set<String> projectWords;
+    private final int maxProjectWordLength;
+    private final int maxMemoizedWords;
+    private final ConcurrentHashMap<String, Boolean> memo = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new splitter.
+     *
+     * @param dictionary       the speller dictionary
+     * @param projectWords     additional words that may be parts of a compound word, in lower case
+     * @param maxMemoizedWords the maximum number of words whose result is memoized
+     */
+    public CompoundWordSplitter(Dictionary dictionary, Collection<String> projectWords, int maxMemoizedWords) {
+        this.fsa = dictionary.fsa;
+        this.separator = dictionary.metadata.getSeparator();
+        this.charset = Charset.forName(dictionary.metadata.getEncoding());
+        this.projectWords = new HashSet<>(projectWords);
+        int maxLength = 0;
+        for (String word : projectWords) {
+            maxLength = Math.max(maxLength, word.length());
+        }
+        this.maxProjectWordLength = maxLength;
+        this.maxMemoizedWords = maxMemoizedWords;
+    }
+
+    /**
+     * Creates a splitter over the speller dictionary of a language.
+     *
+     * @param language         the language
+     * @param projectWords     additional words that may be parts of a compound word, in lower case
+     * @param maxMemoizedWords the maximum number of words whose result is memoized
+     * @return the splitter
+     * @throws IOException if the language has no speller dictionary or it cannot be loaded
+     */
+    public static CompoundWordSplitter create(Language language, Collection<String> projectWords,
+                                              int maxMemoizedWords) throws IOException {
+        Dictionary dictionary = MorfologikSpeller.getDictionaryWithCaching(
+            SpellerDictionary.createRule(language).getFileName());
+        return new CompoundWordSplitter(dictionary, projectWords, maxMemoizedWords);
+    }
+
+    /**
+     * Checks whether a word consists of two or more known words.
+     *
+     * @param word the word
+     * @return true if the word is an accepted compound word
+     */
+    public boolean isCompound(String word) {
+        Boolean result = memo.get(word);
+        if (result == null) {
+            result = split(word) != null;
+            if (memo.size() < maxMemoizedWords) {
+                memo.put(word, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Splits a word into known words. Of all possible segmentations, the
+     * one with the fewest parts is returned.
+     *
+     * @param word the word
+     * @return the parts, or null if the word is not a compound of at least two known words
+     */
+    public List<String> split(String word) {
+        String lower = word.toLowerCase(Locale.ROOT);
+        int length = lower.length();
+        if (length < 2 * MIN_PART_LENGTH || lower.length() != word.length()) {
+            return null;
+        }
+        byte[][] encoded = encode(lower);
+        if (encoded == null) {
+            return null;
+        }
+
+        // parts[i] is the least number of parts of a segmentation of the first i characters
+        int[] parts = new int[length + 1];
+        int[] previous = new int[length + 1];
+        Arrays.fill(parts, Integer.MAX_VALUE);
+        parts[0] = 0;
+        for (int start = 0; start + MIN_PART_LENGTH <= length; start++) {
+            if (parts[start] == Integer.MAX_VALUE) {
+                continue;
+            }
+            for (int end : findWordEnds(lower, encoded, start)) {
+                // The whole word is known, so it is not a compound
+                if (start == 0 && end == length) {
+                    continue;
+                }
+                if (parts[start] + 1 < parts[end]) {
+                    parts[end] = parts[start] + 1;
+                    previous[end] = start;
+                }
+            }
+        }
+        if (parts[length] == Integer.MAX_VALUE) {
+            return null;
+        }
+
+        List<String> result = new ArrayList<>();
+        for (int end = length; end > 0; end = previous[end]) {
+            result.add(0, word.substring(previous[end], end));
+        }
+        return result;
+    }
+
+    /**
+     * Finds the ends of all known words that start at a position.
+     *
+     * @param word    the word in lower case
+     * @param encoded the dictionary encoding of each character of the word
+     * @param start   the start position
+     * @return the end positions
+     */
+    private List<Integer> findWordEnds(String word, byte[][] encoded, int start) {
+        List<Integer> ends = new ArrayList<>();
+
+        int node = fsa.getRootNode();
+        for (int end = start + 1; end <= word.length() && node != 0; end++) {
+            for (byte b : encoded[end - 1]) {
+                int arc = fsa.getArc(node, b);
+                node = arc == 0 || fsa.isArcTerminal(arc) ? 0 : fsa.getEndNode(arc);
+                if (node == 0) {
+                    break;
+                }
+            }
+            if (node != 0 && end - start >= MIN_PART_LENGTH && fsa.getArc(node, separator) != 0) {
+                ends.add(end);
+            }
+        }
+
+        for (int end = start + MIN_PART_LENGTH; end <= Math.min(word.length(), start + maxProjectWordLength); end++) {
+            if (!ends.contains(end) && projectWords.contains(word.substring(start, end))) {
+                ends.add(end);
+            }
+        }
+        return ends;
+    }
+
+    /**
+     * Encodes each character of a word in the dictionary's encoding.
+     *
+     * @param word the word
+     * @return the bytes of each character, or null if a character cannot be encoded
+     */
+    private byte[][] encode(String word) {
+        CharsetEncoder encoder = charset.newEncoder();
+        byte[][] result = new byte[word.length()][];
+        for (int i = 0; i < word.length(); i++) {
+            if (!Character.isLetter(word.charAt(i))) {
+                return null;
+            }
+            try {
+                ByteBuffer bytes = encoder.encode(CharBuffer.wrap(word, i, i + 1));
+                result[i] = Arrays.copyOf(bytes.array(), bytes.limit());
+            } catch (CharacterCodingException e) {
+                return null;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,79 @@
+package io.nncdevel.maven.spellcheck.engine;
+
+import org.languagetool.AnalyzedSentence;
+import org.languagetool.rules.Rule;
+import org.languagetool.rules.RuleMatch;
+import org.languagetool.rules.spelling.SpellingCheckRule;
+
+import java.io.IOException;
+
+/**
+ * Runs a LanguageTool spelling rule but strips the suggestions from its matches.
+ * <p>
+ * The spelling rules attach their suggestions lazily, but LanguageTool
+ * forces them while it filters the matches at the end of every check, so
+ * each misspelled word costs a full speller search even if no report ever
+ * shows its suggestions. The matches of this rule carry no suggestions at
+ * all; they are computed later from the wrapped rule, and only on demand.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+final class DeferredSuggestionRule extends Rule {
+
+    /**
+     * Suffix appended to the ID of the wrapped rule. The wrapped rule is
+     * disabled by its ID, so the wrapper needs an ID of its own.
+     */
+    static final String ID_SUFFIX = "_DEFERRED";
+
+    private final SpellingCheckRule rule;
+
+    /**
+     * Creates a new wrapper.
+     *
+     * @param rule the spelling rule to run
+     */
+    DeferredSuggestionRule(SpellingCheckRule rule) {
+        this.rule = rule;
+        setCategory(rule.getCategory());
+        setLocQualityIssueType(rule.getLocQualityIssueType());
+    }
+
+    @Override
+    public String getId() {
+        return rule.getId() + ID_SUFFIX;
+    }
+
+    @Override
+    public String getDescription() {
+        return rule.getDescription();
+    }
+
+    @Override
+    public boolean isDictionaryBasedSpellingRule() {
+        return rule.isDictionaryBasedSpellingRule();
+    }
+
+    @Override
+    public int estimateContextForSureMatch() {
+        return rule.estimateContextForSureMatch();
+    }
+
+    @Override
+    public RuleMatch[] match(AnalyzedSentence sentence) throws IOException {
+        RuleMatch[] matches = rule.match(sentence);
+        RuleMatch[] copies = new RuleMatch[matches.length];
+        for (int i = 0; i < matches.length; i++) {
+            // The copy belongs to this rule, since LanguageTool drops matches of disabled rules,
+            // and shares nothing with the lazy suggestions of the original
+            RuleMatch match = matches[i];
+            copies[i] = new RuleMatch(this, sentence, match.getPatternFromPos(), match.getPatternToPos(),
+                match.getFromPos(), match.getToPos(), match.getMessage(), match.getShortMessage());
+            copies[i].setSentencePosition(match.getFromPosSentence(), match.getToPosSentence());
+            copies[i].setType(match.getType());
+            copies[i].setUrl(match.getUrl());
+        }
+        return copies;
+    }
+}
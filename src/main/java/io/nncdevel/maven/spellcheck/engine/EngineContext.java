@@ -0,0 +1,97 @@
+package io.nncdevel.maven.spellcheck.engine;
+
+import io.nncdevel.maven.spellcheck.config.SpellCheckConfiguration;
+import io.nncdevel.maven.spellcheck.text.WordSet;
+import org.languagetool.Language;
+import org.languagetool.ResultCache;
+
+/**
+ * State shared by all spelling engines of a run: the language, the
+ * configuration, the caches and the words that are always accepted.
+ * Everything in the context is either immutable or thread-safe.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public class EngineContext {
+
+    private final Language language;
+    private final SpellCheckConfiguration config;
+    private final WordVerdictCache wordCache;
+    private final WordSet ignoreWords;
+    private final ResultCache resultCache;
+
+    /**
+     * Creates a new engine context.
+     *
+     * @param language    the language, shared by all engines
+     * @param config      the spell check configuration
+     * @param wordCache   the word verdict cache
+     * @param ignoreWords the words that are always accepted
+     * @param resultCache the LanguageTool sentence result cache, or null to disable it
+     */
+    public EngineContext(Language language, SpellCheckConfiguration config,
+                         WordVerdictCache wordCache, WordSet ignoreWords, ResultCache resultCache) {
+        this.language = language;
+        this.config = config;
+        this.wordCache = wordCache;
+        this.ignoreWords = ignoreWords;
+        this.resultCache = resultCache;
+    }
+
+    /**
+     * Gets the language.
+     *
+     * @return the language
+     */
+    public Language getLanguage() {
+        return language;
+    }
+
+    /**
+     * Gets the spell check configuration.
+     *
+     * @return the configuration
+     */
+    public SpellCheckConfiguration getConfig() {
+        return config;
+    }
+
+    /**
+     * Gets the word verdict cache.
+     *
+     * @return the word cache
+     */
+    public WordVerdictCache getWordCache() {
+        return wordCache;
+    }
+
+    /**
+     * Gets the words that are always accepted.
+     *
+     * @return the ignored words
+     */
+    public WordSet getIgnoreWords() {
+        return ignoreWords;
+    }
+
+    /**
+     * Gets the LanguageTool sentence result cache.
+     *
+     * @return the result cache, or null if disabled
+     */
+    public ResultCache getResultCache() {
+        return resultCache;
+    }
+
+    /**
+     * Checks whether a word is always accepted, ignoring case unless the
+     * configuration is case-sensitive.
+     *
+     * @param word the word
+     * @return true if the word is ignored
+     */
+    public boolean isIgnored(String word) {
+        return ignoreWords.contains(word);
+    }
+}
@@ -0,0 +1,130 @@
+package io.nncdevel.maven.spellcheck.engine;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps warm {@link EngineResources} for reuse by later spell checks in the
+ * same JVM, such as the other modules of a reactor build or later builds in
+ * a Maven Daemon. Resources are reference counted and keyed by the effective
+ * configuration; once no spell check uses them, they are kept for an idle
+ * timeout and then released.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public final class EngineRegistry {
+
+    /**
+     * Creates the resources for a key that is not registered yet.
+     */
+    @FunctionalInterface
+    public interface Factory {
+
+        /**
+         * Creates the resources.
+         *
+         * @return the new resources
+         * @throws IOException if the resources cannot be created
+         */
+        EngineResources create() throws IOException;
+    }
+
+    private static final Map<List<Object>, Entry> entries = new HashMap<>();
+    private static ScheduledExecutorService evictor;
+
+    private EngineRegistry() {
+    }
+
+    /**
+     * Acquires the resources for a configuration, creating them if no warm
+     * resources are registered. Creation happens while holding the registry
+     * lock, so concurrent executions with the same configuration initialize
+     * the engines only once.
+     *
+     * @param key     the effective configuration values the resources depend on
+     * @param factory creates the resources if none are registered
+     * @return the resources, which must be released with {@link #release(List, long)}
+     * @throws IOException if the resources cannot be created
+     */
+    public static synchronized EngineResources acquire(List<Object> key, Factory factory) throws IOException {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            entry = new Entry(factory.create());
+            entries.put(key, entry);
+        }
+        entry.references++;
+        entry.uses++;
+        return entry.resources;
+    }
+
+    /**
+     * Checks whether resources are registered for a configuration.
+     *
+     * @param key the effective configuration values
+     * @return true if warm resources are registered
+     */
+    public static synchronized boolean contains(List<Object> key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * Releases resources acquired for a configuration. When they are no
+     * longer used, they stay registered for the idle timeout.
+     *
+     * @param key                the effective configuration values
+     * @param idleTimeoutMinutes the minutes to keep unused resources; zero or less releases them immediately
+     */
+    public static synchronized void release(List<Object> key, long idleTimeoutMinutes) {
+        Entry entry = entries.get(key);
+        if (entry == null || --entry.references > 0) {
+            return;
+        }
+
+        if (idleTimeoutMinutes <= 0) {
+            entries.remove(key);
+            return;
+        }
+        long uses = entry.uses;
+        getEvictor().schedule(() -> evict(key, entry, uses), idleTimeoutMinutes, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Removes resources that have not been acquired again since they were released.
+     */
+    private static synchronized void evict(List<Object> key, Entry entry, long uses) {
+        if (entries.get(key) == entry && entry.references == 0 && entry.uses == uses) {
+            entries.remove(key);
+        }
+    }
+
+    private static ScheduledExecutorService getEvictor() {
+        if (evictor == null) {
+            evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "spellcheck-registry-evictor");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return evictor;
+    }
+
+    /**
+     * Registered resources with their usage counters.
+     */
+    private static final class Entry {
+
+        private final EngineResources resources;
+        private int references;
+        private long uses;
+
+        Entry(EngineResources resources) {
+            this.resources = resources;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.nncdevel.maven.spellcheck.engine;
+
+/**
+ * The expensive, reusable state behind a spell checker: the engine context
+ * with its language and caches, the pool of warm engine instances, the
+ * optional pre-screen filter, the optional compound word splitter and the
+ * engines of additional languages. Everything in it is thread-safe, so one
+ * instance can serve several spell checkers at the same time.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public class EngineResources {
+
+    private final EngineContext context;
+    private final InstancePool<SpellingEngine> engines;
+    private final KnownWordFilter knownWordFilter;
+    private final CompoundWordSplitter compoundWordSplitter;
+    private final AdditionalLanguages additionalLanguages;
+
+    /**
+     * Creates a new set of engine resources.
+     *
+     * @param context              the engine context
+     * @param engines              the pool of engine instances
+     * @param knownWordFilter      the pre-screen filter, or null if the pre-screen is disabled
+     * @param compoundWordSplitter the compound word splitter, or null if compound words are not allowed
+     * @param additionalLanguages  the languages after the first one, or null if only one language is checked
+     */
+    public EngineResources(EngineContext context, InstancePool<SpellingEngine> engines,
+                           KnownWordFilter knownWordFilter, CompoundWordSplitter compoundWordSplitter,
+                           AdditionalLanguages additionalLanguages) {
+        this.context = context;
+        this.engines = engines;
+        this.knownWordFilter = knownWordFilter;
+        this.compoundWordSplitter = compoundWordSplitter;
+        this.additionalLanguages = additionalLanguages;
+    }
+
+    /**
+     * Gets the engine context.
+     *
+     * @return the engine context
+     */
+    public EngineContext getContext() {
+        return context;
+    }
+
+    /**
+     * Gets the pool of engine instances.
+     *
+     * @return the engine pool
+     */
+    public InstancePool<SpellingEngine> getEngines() {
+        return engines;
+    }
+
+    /**
+     * Gets the pre-screen filter.
+     *
+     * @return the known word filter, or null if the pre-screen is disabled
+     */
+    public KnownWordFilter getKnownWordFilter() {
+        return knownWordFilter;
+    }
+
+    /**
+     * Gets the compound word splitter.
+     *
+     * @return the compound word splitter, or null if compound words are not allowed
+     */
+    public CompoundWordSplitter getCompoundWordSplitter() {
+        return compoundWordSplitter;
+    }
+
+    /**
+     * Gets the languages after the first one.
+     *
+     * @return the additional languages, or null if only one language is checked
+     */
+    public AdditionalLanguages getAdditionalLanguages() {
+        return additionalLanguages;
+    }
+}
@@ -0,0 +1,247 @@
+package io.nncdevel.maven.spellcheck.engine;
+
+import io.nncdevel.maven.spellcheck.text.BloomFilter;
+import org.languagetool.JLanguageTool;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A snapshot of the state that the spell checker derives from LanguageTool
+ * at startup: the pre-screen Bloom filter built from the speller dictionary
+ * and the verdicts of the words checked so far. LanguageTool's own rules
+ * cannot be serialized, so the snapshot holds the structures that can be
+ * restored without rebuilding them. A snapshot is only used if it was written
+ * by the same plugin and LanguageTool versions for the same configuration.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public class EngineSnapshot {
+
+    private static final int MAGIC = 0x5350434b;
+    private static final int FORMAT_VERSION = 1;
+
+    private final BloomFilter bloomFilter;
+    private final Map<String, WordVerdictCache.Verdict> verdicts;
+
+    /**
+     * Creates a new snapshot.
+     *
+     * @param bloomFilter the pre-screen Bloom filter, or null if the pre-screen is disabled
+     * @param verdicts    the cached word verdicts, oldest first
+     */
+    public EngineSnapshot(BloomFilter bloomFilter, Map<String, WordVerdictCache.Verdict> verdicts) {
+        this.bloomFilter = bloomFilter;
+        this.verdicts = verdicts;
+    }
+
+    /**
+     * Gets the pre-screen Bloom filter.
+     *
+     * @return the Bloom filter, or null if the snapshot has none
+     */
+    public BloomFilter getBloomFilter() {
+        return bloomFilter;
+    }
+
+    /**
+     * Gets the cached word verdicts.
+     *
+     * @return the verdicts, oldest first
+     */
+    public Map<String, WordVerdictCache.Verdict> getVerdicts() {
+        return verdicts;
+    }
+
+    /**
+     * Gets the snapshot file for a configuration. The file name contains a
+     * digest of the configuration, the plugin version and the LanguageTool version.
+     *
+     * @param directory     the snapshot directory
+     * @param configuration a stable description of the configuration
+     * @return the snapshot file
+     */
+    public static File getFile(File directory, String configuration) {
+        return new File(directory, "engine-" + digest(getKey(configuration)).substring(0, 16) + ".snapshot");
+    }
+
+    /**
+     * Reads a snapshot.
+     *
+     * @param file          the snapshot file
+     * @param configuration a stable description of the configuration
+     * @return the snapshot, or null if the file does not exist or was written for another configuration or version
+     * @throws IOException if the file cannot be read
+     */
+    public static EngineSnapshot read(File file, String configuration) throws IOException {
+        if (!file.isFile()) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(file.toPath()))))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION
+                || !getKey(configuration).equals(readString(in))) {
+                return null;
+            }
+
+            BloomFilter bloomFilter = null;
+            if (in.readBoolean()) {
+                int bitCount = in.readInt();
+                int hashCount = in.readInt();
+                long[] bits = new long[in.readInt()];
+                for (int i = 0; i < bits.length; i++) {
+                    bits[i] = in.readLong();
+                }
+                bloomFilter = new BloomFilter(bits, bitCount, hashCount);
+            }
+
+            int count = in.readInt();
+            Map<String, WordVerdictCache.Verdict> verdicts = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                String word = in.readUTF();
+                if (in.readBoolean()) {
+                    List<String> suggestions = new ArrayList<>();
+                    for (int s = in.readInt(); s > 0; s--) {
+                        suggestions.add(in.readUTF());
+                    }
+                    verdicts.put(word, WordVerdictCache.Verdict.misspelled(suggestions));
+                } else {
+                    verdicts.put(word, WordVerdictCache.Verdict.correct());
+                }
+            }
+            return new EngineSnapshot(bloomFilter, verdicts);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Corrupt snapshot: " + file, e);
+        }
+    }
+
+    /**
+     * Writes a snapshot. The file is replaced atomically, so concurrent
+     * readers never see a partially written snapshot.
+     *
+     * @param file          the snapshot file
+     * @param configuration a stable description of the configuration
+     * @param bloomFilter   the pre-screen Bloom filter, or null if the pre-screen is disabled
+     * @param wordCache     the word verdict cache
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(File file, String configuration, BloomFilter bloomFilter,
+                             WordVerdictCache wordCache) throws IOException {
+        Path target = file.toPath();
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), file.getName(), ".tmp");
+
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(temp))))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                writeString(out, getKey(configuration));
+
+                out.writeBoolean(bloomFilter != null);
+                if (bloomFilter != null) {
+                    out.writeInt(bloomFilter.getBitCount());
+                    out.writeInt(bloomFilter.getHashCount());
+                    out.writeInt(bloomFilter.getBits().length);
+                    for (long word : bloomFilter.getBits()) {
+                        out.writeLong(word);
+                    }
+                }
+
+                // Suggestions that no report asked for are not computed just for the snapshot
+                Map<String, WordVerdictCache.Verdict> verdicts = new LinkedHashMap<>();
+                wordCache.forEach((word, verdict) -> {
+                    if (verdict.hasComputedSuggestions()) {
+                        verdicts.put(word, verdict);
+                    }
+                });
+                out.writeInt(verdicts.size());
+                for (Map.Entry<String, WordVerdictCache.Verdict> entry : verdicts.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeBoolean(entry.getValue().isMisspelled());
+                    if (entry.getValue().isMisspelled()) {
+                        out.writeInt(entry.getValue().getSuggestions().size());
+                        for (String suggestion : entry.getValue().getSuggestions()) {
+                            out.writeUTF(suggestion);
+                        }
+                    }
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Combines the configuration with the versions that determine the content of a snapshot.
+     */
+    private static String getKey(String configuration) {
+        return "plugin=" + getPluginVersion() + ";languagetool=" + JLanguageTool.VERSION + ";" + configuration;
+    }
+
+    /**
+     * Reads the plugin version from the Maven metadata packaged with the plugin.
+     */
+    private static String getPluginVersion() {
+        try (InputStream in = EngineSnapshot.class.getResourceAsStream(
+                "/META-INF/maven/io.nncdevel.maven/spellcheck-maven-plugin/pom.properties")) {
+            if (in != null) {
+                Properties properties = new Properties();
+                properties.load(in);
+                return properties.getProperty("version", "unknown");
+            }
+        } catch (IOException e) {
+            // Fall through to the unknown version
+        }
+        return "unknown";
+    }
+
+    private static String digest(String text) {
+        try {
+            StringBuilder hex = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8))) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > (1 << 26)) {
+            throw new IOException("Corrupt snapshot string length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
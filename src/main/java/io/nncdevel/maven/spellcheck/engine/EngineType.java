@@ -0,0 +1,66 @@
+package io.nncdevel.maven.spellcheck.engine;
+
+import java.io.IOException;
+
+/**
+ * The available spelling engine implementations.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public enum EngineType {
+
+    /**
+     * The full LanguageTool analysis pipeline.
+     */
+    LANGUAGETOOL("languagetool"),
+
+    /**
+     * Direct dictionary lookups in the Morfologik speller.
+     */
+    SPELLER("speller");
+
+    private final String name;
+
+    EngineType(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the configuration name of the engine.
+     *
+     * @return the engine name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Creates a new engine instance of this type.
+     *
+     * @param context the engine context
+     * @return the spelling engine
+     * @throws IOException if the engine cannot be created
+     */
+    public SpellingEngine create(EngineContext context) throws IOException {
+        if (this == SPELLER) {
+            return new SpellerEngine(context);
+        }
+        return new LanguageToolEngine(context);
+    }
+
+    /**
+     * Finds the engine type with the given configuration name.
+     *
+     * @param name the engine name, case-insensitive
+     * @return the engine type, or null if the name is unknown
+     */
+    public static EngineType fromName(String name) {
+        for (EngineType type : values()) {
+            if (type.name.equalsIgnoreCase(name)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,67 @@
+package io.nncdevel.maven.spellcheck.engine;
+
+import io.nncdevel.maven.spellcheck.config.SpellCheckConfiguration;
+import io.nncdevel.maven.spellcheck.text.WordSet;
+import org.languagetool.Language;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Initializes a spelling engine in the background and runs a short check
+ * with it, which loads the dictionaries LanguageTool reads lazily and warms
+ * up the JIT. The engine itself is discarded, but it uses the
+ * {@link SharedLanguages shared language}, so the engines created later for
+ * the actual check start with everything loaded. Each language and engine
+ * type is warmed up once per JVM.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public final class EngineWarmup {
+
+    private static final String WARM_UP_TEXT = "This sentence warms up the spell checker.\n";
+
+    private static final Map<List<Object>, CompletableFuture<Long>> warmups = new HashMap<>();
+
+    private EngineWarmup() {
+    }
+
+    /**
+     * Starts the warm-up of an engine type for a language, unless it has
+     * already been started.
+     *
+     * @param language the shared language
+     * @param type     the engine type
+     * @return a future for the duration of the warm-up in milliseconds, which is zero if it was started before
+     */
+    public static synchronized CompletableFuture<Long> start(Language language, EngineType type) {
+        List<Object> key = Arrays.asList(language, type);
+        if (warmups.containsKey(key)) {
+            return CompletableFuture.completedFuture(0L);
+        }
+
+        CompletableFuture<Long> future = new CompletableFuture<>();
+        warmups.put(key, future);
+        Thread thread = new Thread(() -> run(language, type, future), "spellcheck-warmup");
+        thread.setDaemon(true);
+        thread.start();
+        return future;
+    }
+
+    private static void run(Language language, EngineType type, CompletableFuture<Long> future) {
+        long start = System.nanoTime();
+        try {
+            EngineContext context = new EngineContext(language, new SpellCheckConfiguration(),
+                new WordVerdictCache(0), WordSet.empty(), null);
+            type.create(context).check(WARM_UP_TEXT);
+            future.complete(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package io.nncdevel.maven.spellcheck.engine;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded pool of instances that are not thread-safe, such as
+ * {@code JLanguageTool}. Instances are created lazily up to the maximum
+ * size, and each instance is used by at most one thread at a time.
+ *
+ * @param <T> the pooled instance type
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public class InstancePool<T> {
+
+    /**
+     * Creates new pool instances.
+     *
+     * @param <T> the pooled instance type
+     */
+    @FunctionalInterface
+    public interface Factory<T> {
+
+        /**
+         * Creates a new instance.
+         *
+         * @return the new instance
+         * @throws IOException if the instance cannot be created
+         */
+        T create() throws IOException;
+    }
+
+    private final int maxSize;
+    private final Factory<T> factory;
+    private final BlockingQueue<T> idle;
+    private final AtomicInteger created = new AtomicInteger();
+
+    /**
+     * Creates a new pool.
+     *
+     * @param maxSize the maximum number of instances
+     * @param factory the factory used to create instances
+     */
+    public InstancePool(int maxSize, Factory<T> factory) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Pool size must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.factory = factory;
+        this.idle = new LinkedBlockingQueue<>();
+    }
+
+    /**
+     * Borrows an instance, creating one if the pool has not reached its
+     * maximum size, or waiting until another thread releases one.
+     *
+     * @return the borrowed instance
+     * @throws IOException if an instance cannot be created or the thread is interrupted
+     */
+    public T borrow() throws IOException {
+        T instance = idle.poll();
+        if (instance != null) {
+            return instance;
+        }
+
+        int count;
+        while ((count = created.get()) < maxSize) {
+            if (created.compareAndSet(count, count + 1)) {
+                try {
+                    return factory.create();
+                } catch (IOException | RuntimeException e) {
+                    created.decrementAndGet();
+                    throw e;
+                }
+            }
+        }
+
+        try {
+            return idle.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a pooled instance");
+        }
+    }
+
+    /**
+     * Returns a borrowed instance to the pool.
+     *
+     * @param instance the instance to return
+     */
+    public void release(T instance) {
+        idle.offer(instance);
+    }
+
+    /**
+     * Gets the maximum number of instances.
+     *
+     * @return the maximum pool size
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Gets the number of instances created so far.
+     *
+     * @return the number of created instances
+     */
+    public int getCreatedCount() {
+        return created.get();
+    }
+}
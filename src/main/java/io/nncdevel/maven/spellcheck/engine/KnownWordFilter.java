@@ -0,0 +1,163 @@
+package io.nncdevel.maven.spellcheck.engine;
+
+import io.nncdevel.maven.spellcheck.text.BloomFilter;
+import io.nncdevel.maven.spellcheck.text.ParagraphSplitter;
+import io.nncdevel.maven.spellcheck.text.TextRange;
+import io.nncdevel.maven.spellcheck.text.WordSet;
+import io.nncdevel.maven.spellcheck.text.WordTokenizer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pre-screens text with a Bloom filter of all dictionary and ignored words,
+ * so that paragraphs whose words are all known never reach the engine.
+ * A paragraph is skipped only if every word passes the filter, so a
+ * misspelling is missed only when it collides with a known word in the
+ * filter, which happens with the configured false positive probability.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public class KnownWordFilter {
+
+    private final BloomFilter bloomFilter;
+    private final LongAdder paragraphs = new LongAdder();
+    private final LongAdder skippedParagraphs = new LongAdder();
+
+    /**
+     * Creates a new filter.
+     *
+     * @param bloomFilter the Bloom filter containing all known words
+     */
+    public KnownWordFilter(BloomFilter bloomFilter) {
+        this.bloomFilter = bloomFilter;
+    }
+
+    /**
+     * Builds a filter from dictionary words and ignored words.
+     *
+     * @param dictionaryWords          the dictionary words, with their dictionary case
+     * @param ignoreWords              the ignored words, which are accepted in any case
+     * @param falsePositiveProbability the acceptable false positive probability
+     * @return the filter
+     */
+    public static KnownWordFilter create(Collection<String> dictionaryWords, Collection<String> ignoreWords,
+                                         double falsePositiveProbability) {
+        return create(dictionaryWords, new WordSet(ignoreWords, false), falsePositiveProbability);
+    }
+
+    /**
+     * Creates a filter from dictionary words and a set of ignored words.
+     * Ignored words of a case-sensitive set are only accepted with their
+     * case, or capitalized if they are in lower case.
+     *
+     * @param dictionaryWords          the dictionary words, with their dictionary case
+     * @param ignoreWords              the ignored words
+     * @param falsePositiveProbability the acceptable false positive probability
+     * @return the filter
+     */
+    public static KnownWordFilter create(Collection<String> dictionaryWords, WordSet ignoreWords,
+                                         double falsePositiveProbability) {
+        BloomFilter bloomFilter = new BloomFilter(dictionaryWords.size() + ignoreWords.size(), falsePositiveProbability);
+        for (String word : dictionaryWords) {
+            bloomFilter.add(word);
+        }
+        for (String word : ignoreWords.toList()) {
+            bloomFilter.add(word);
+        }
+        return new KnownWordFilter(bloomFilter);
+    }
+
+    /**
+     * Gets the Bloom filter of all known words.
+     *
+     * @return the Bloom filter
+     */
+    public BloomFilter getBloomFilter() {
+        return bloomFilter;
+    }
+
+    /**
+     * Checks whether a word is probably known. Capitalized and upper-case
+     * words are also accepted in their lower-case form, as the speller does.
+     *
+     * @param text  the text
+     * @param start the start offset of the word
+     * @param end   the end offset (exclusive) of the word
+     * @return true if the word is probably known, false if it is definitely unknown
+     */
+    public boolean isKnown(CharSequence text, int start, int end) {
+        return bloomFilter.mightContain(text, start, end, false)
+            || (Character.isUpperCase(text.charAt(start)) && bloomFilter.mightContain(text, start, end, true));
+    }
+
+    /**
+     * Finds the parts of a text that may contain misspellings. The text is
+     * split into paragraphs at blank lines, and adjacent paragraphs that
+     * contain an unknown word are merged into a single range.
+     *
+     * @param text the text to screen
+     * @return the ranges that must be checked by the engine, in order
+     */
+    public List<TextRange> findUncertainRanges(String text) {
+        List<TextRange> ranges = new ArrayList<>();
+        int rangeStart = -1;
+        int rangeEnd = -1;
+        boolean previousUncertain = false;
+
+        for (TextRange paragraph : ParagraphSplitter.findParagraphs(text, new TextRange(0, text.length()))) {
+            paragraphs.increment();
+            if (containsUnknownWord(text, paragraph)) {
+                if (previousUncertain) {
+                    rangeEnd = paragraph.getEnd();
+                } else {
+                    if (rangeStart >= 0) {
+                        ranges.add(new TextRange(rangeStart, rangeEnd));
+                    }
+                    rangeStart = paragraph.getStart();
+                    rangeEnd = paragraph.getEnd();
+                }
+                previousUncertain = true;
+            } else {
+                skippedParagraphs.increment();
+                previousUncertain = false;
+            }
+        }
+        if (rangeStart >= 0) {
+            ranges.add(new TextRange(rangeStart, rangeEnd));
+        }
+
+        return ranges;
+    }
+
+    private boolean containsUnknownWord(String text, TextRange paragraph) {
+        WordTokenizer words = new WordTokenizer(text, paragraph.getStart(), paragraph.getEnd());
+        while (words.next()) {
+            if (!isKnown(text, words.start(), words.end())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the number of paragraphs screened.
+     *
+     * @return the paragraph count
+     */
+    public long getParagraphCount() {
+        return paragraphs.sum();
+    }
+
+    /**
+     * Gets the number of paragraphs that were skipped because all their words are known.
+     *
+     * @return the skipped paragraph count
+     */
+    public long getSkippedParagraphCount() {
+        return skippedParagraphs.sum();
+    }
+}
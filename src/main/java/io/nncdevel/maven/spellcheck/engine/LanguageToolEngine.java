@@ -0,0 +1,158 @@
+package io.nncdevel.maven.spellcheck.engine;
+
+import org.languagetool.JLanguageTool;
+import org.languagetool.UserConfig;
+import org.languagetool.rules.Rule;
+import org.languagetool.rules.RuleMatch;
+import org.languagetool.rules.spelling.SpellingCheckRule;
+import org.languagetool.rules.spelling.morfologik.MorfologikSpellerRule;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Spelling engine that runs the full LanguageTool analysis pipeline
+ * and keeps only the matches of spelling rules.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public class LanguageToolEngine implements SpellingEngine {
+
+    private final JLanguageTool languageTool;
+    private final WordVerdictCache wordCache;
+    private final int maxSuggestions;
+    private final List<MorfologikSpellerRule> spellers = new ArrayList<>();
+
+    /**
+     * Creates a new LanguageTool engine.
+     * In spelling-only mode every rule that cannot produce a spelling error
+     * is disabled, so grammar and style rules are never evaluated.
+     * Ignored words are registered with the spelling rules as accepted user
+     * words, so LanguageTool accepts them up front and never builds suggestions
+     * for them. Because they are part of the user configuration, they are also
+     * part of the result cache key. The spelling rules are replaced by
+     * {@link DeferredSuggestionRule}s, so a check never builds suggestions.
+     *
+     * @param context the state shared by all engines
+     */
+    public LanguageToolEngine(EngineContext context) {
+        this.maxSuggestions = context.getConfig().getMaxSuggestions();
+        UserConfig userConfig = new UserConfig(context.getIgnoreWords().toList(), Collections.emptyMap(),
+            Math.max(0, maxSuggestions), null, null, null, null);
+        this.languageTool = new JLanguageTool(context.getLanguage(), context.getResultCache(), userConfig);
+        this.wordCache = context.getWordCache();
+
+        if (context.getConfig().isSpellingOnly()) {
+            List<String> disabledRules = new ArrayList<>();
+            for (Rule rule : languageTool.getAllRules()) {
+                if (!(rule instanceof SpellingCheckRule) && !isSpellingRule(rule.getId())) {
+                    disabledRules.add(rule.getId());
+                }
+            }
+            languageTool.disableRules(disabledRules);
+        }
+
+        List<String> wrappedRules = new ArrayList<>();
+        for (Rule rule : languageTool.getAllActiveRules()) {
+            if (rule instanceof SpellingCheckRule) {
+                wrappedRules.add(rule.getId());
+                languageTool.addRule(new DeferredSuggestionRule((SpellingCheckRule) rule));
+                if (rule instanceof MorfologikSpellerRule) {
+                    spellers.add((MorfologikSpellerRule) rule);
+                }
+            }
+        }
+        languageTool.disableRules(wrappedRules);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Suggestions are only computed when a report asks for them. They are
+     * kept in the word cache, so they are computed at most once per distinct word. Because the rules are not thread-safe,
+     * checks and suggestion requests are synchronized on the engine.
+     */
+    @Override
+    public synchronized List<SpellingMatch> check(String text) throws IOException {
+        return check(text, () -> false);
+    }
+
+    /**
+     * {@inheritDoc}
+     * LanguageTool polls for cancellation between sentences and rules, but
+     * not while it splits and tags the sentences before running the rules.
+     */
+    @Override
+    public synchronized List<SpellingMatch> check(String text, BooleanSupplier cancelled) throws IOException {
+        List<SpellingMatch> result = new ArrayList<>();
+
+        languageTool.setCheckCancelledCallback(cancelled::getAsBoolean);
+        List<RuleMatch> matches;
+        try {
+            matches = languageTool.check(text);
+        } finally {
+            languageTool.setCheckCancelledCallback(null);
+        }
+        if (cancelled.getAsBoolean()) {
+            // A cancelled check returns the matches found so far, which are incomplete
+            throw new CancellationException("Check cancelled");
+        }
+        for (RuleMatch match : matches) {
+            // Only report spelling errors, not grammar errors
+            if (isSpellingRule(match.getRule().getId())) {
+                String word = text.substring(match.getFromPos(), match.getToPos());
+                WordVerdictCache.Verdict verdict = wordCache.get(word, w -> maxSuggestions <= 0
+                    ? WordVerdictCache.Verdict.misspelled(Collections.emptyList())
+                    : WordVerdictCache.Verdict.misspelled(() -> suggest(w)));
+                result.add(new SpellingMatch(
+                    match.getFromPos(),
+                    match.getToPos(),
+                    match.getMessage(),
+                    verdict::getSuggestions
+                ));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Computes the suggestions for a misspelled word from the spelling rules
+     * that found it. Spelling rules that are not based on Morfologik have no
+     * suggestions.
+     *
+     * @param word the word
+     * @return at most {@code maxSuggestions} suggestions
+     */
+    private synchronized List<String> suggest(String word) {
+        for (MorfologikSpellerRule speller : spellers) {
+            try {
+                List<String> suggestions = speller.getSpellingSuggestions(word);
+                if (!suggestions.isEmpty()) {
+                    return suggestions.size() > maxSuggestions
+                        ? new ArrayList<>(suggestions.subList(0, maxSuggestions)) : suggestions;
+                }
+            } catch (IOException e) {
+                // Try the next speller
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Determines if a rule ID belongs to a spelling-related rule.
+     *
+     * @param ruleId the rule ID
+     * @return true if it's a spelling rule
+     */
+    static boolean isSpellingRule(String ruleId) {
+        return ruleId.contains("SPELL") ||
+               ruleId.contains("MORFOLOGIK") ||
+               ruleId.contains("HUNSPELL") ||
+               ruleId.contains("TYPO");
+    }
+}
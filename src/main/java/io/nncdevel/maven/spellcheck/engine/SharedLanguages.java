@@ -0,0 +1,69 @@
+package io.nncdevel.maven.spellcheck.engine;
+
+import org.languagetool.Language;
+import org.languagetool.Languages;
+import org.languagetool.language.AmericanEnglish;
+import org.languagetool.language.BritishEnglish;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Holds one LanguageTool {@link Language} instance per supported language
+ * for the whole JVM. A language lazily loads its tagger, tokenizers and
+ * dictionaries, so sharing the instance means every engine after the first
+ * one, including those of warm-up checks, starts with them loaded.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public final class SharedLanguages {
+
+    private static final Map<String, Language> languages = new HashMap<>();
+
+    private SharedLanguages() {
+    }
+
+    /**
+     * Gets the shared language for a language code. Besides English, any
+     * language whose LanguageTool module is on the class path is supported;
+     * a code without a country selects the default variant of the language.
+     *
+     * @param code the language code, such as "en-US", "en-GB" or "nl"; null and "en" select American English
+     * @return the shared language, or null if the language is not supported
+     */
+    public static synchronized Language get(String code) {
+        String key;
+        if (code == null || code.equals("en") || code.startsWith("en-US")) {
+            key = "en-US";
+        } else if (code.startsWith("en-GB")) {
+            key = "en-GB";
+        } else {
+            key = code;
+        }
+
+        Language language = languages.get(key);
+        if (language == null) {
+            language = create(key);
+            if (language != null) {
+                languages.put(key, language);
+            }
+        }
+        return language;
+    }
+
+    private static Language create(String code) {
+        if (code.equals("en-US")) {
+            return new AmericanEnglish();
+        }
+        if (code.equals("en-GB")) {
+            return new BritishEnglish();
+        }
+        if (!Languages.isLanguageSupported(code)) {
+            return null;
+        }
+        Language language = Languages.getLanguageForShortCode(code);
+        Language variant = language.getDefaultLanguageVariant();
+        return variant != null ? variant : language;
+    }
+}
@@ -0,0 +1,44 @@
+package io.nncdevel.maven.spellcheck.engine;
+
+import org.languagetool.ResultCache;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the LanguageTool {@link ResultCache} shared by every engine in the JVM,
+ * including engines of other reactor modules. Cache keys include the language,
+ * the enabled rules and the user configuration, so engines with different
+ * settings can safely share one cache.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public final class SharedResultCache {
+
+    private static ResultCache cache;
+    private static long cacheMaxSize;
+    private static long cacheExpireMinutes;
+
+    private SharedResultCache() {
+    }
+
+    /**
+     * Gets the shared result cache. The cache is created on first use, and
+     * re-created if a later caller asks for a different size or expiry.
+     *
+     * @param maxSize       the maximum number of cached sentences; zero or less disables the cache
+     * @param expireMinutes the minutes after which unused entries expire
+     * @return the shared cache, or null if caching is disabled
+     */
+    public static synchronized ResultCache get(long maxSize, long expireMinutes) {
+        if (maxSize <= 0) {
+            return null;
+        }
+        if (cache == null || cacheMaxSize != maxSize || cacheExpireMinutes != expireMinutes) {
+            cache = new ResultCache(maxSize, Math.max(1, expireMinutes), TimeUnit.MINUTES);
+            cacheMaxSize = maxSize;
+            cacheExpireMinutes = expireMinutes;
+        }
+        return cache;
+    }
+}
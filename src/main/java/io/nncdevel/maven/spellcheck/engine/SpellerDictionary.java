@@ -0,0 +1,85 @@
+package io.nncdevel.maven.spellcheck.engine;
+
+import morfologik.stemming.Dictionary;
+import org.languagetool.JLanguageTool;
+import org.languagetool.Language;
+import org.languagetool.UserConfig;
+import org.languagetool.rules.Rule;
+import org.languagetool.rules.spelling.morfologik.MorfologikSpeller;
+import org.languagetool.rules.spelling.morfologik.MorfologikSpellerRule;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.ResourceBundle;
+
+/**
+ * Access to the Morfologik spelling dictionary of a LanguageTool language.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public final class SpellerDictionary {
+
+    private SpellerDictionary() {
+    }
+
+    /**
+     * Creates a new instance of the Morfologik spelling rule of a language.
+     * Depending on the language, the speller is registered either as a
+     * regular rule or as a language-model capable rule.
+     *
+     * @param language the language
+     * @return a new spelling rule instance
+     * @throws IOException if no Morfologik spelling rule exists
+     */
+    public static MorfologikSpellerRule createRule(Language language) throws IOException {
+        ResourceBundle messages = JLanguageTool.getMessageBundle(language);
+        UserConfig userConfig = new UserConfig();
+        List<Rule> rules = new ArrayList<>(
+            language.getRelevantLanguageModelCapableRules(messages, null, null, userConfig, null, Collections.emptyList()));
+        rules.addAll(language.getRelevantRules(messages, userConfig, null, Collections.emptyList()));
+        for (Rule rule : rules) {
+            if (rule instanceof MorfologikSpellerRule) {
+                return (MorfologikSpellerRule) rule;
+            }
+        }
+        throw new IOException("No Morfologik speller available for language: " + language.getShortCodeWithCountryAndVariant());
+    }
+
+    /**
+     * Loads all words of the main spelling dictionary of a language.
+     * Words that LanguageTool adds from its plain-text spelling lists are not included.
+     *
+     * @param language the language
+     * @return the dictionary words
+     * @throws IOException if the dictionary cannot be loaded
+     */
+    public static List<String> loadWords(Language language) throws IOException {
+        Dictionary dictionary = MorfologikSpeller.getDictionaryWithCaching(createRule(language).getFileName());
+        byte separator = dictionary.metadata.getSeparator();
+        Charset charset = Charset.forName(dictionary.metadata.getEncoding());
+
+        List<String> words = new ArrayList<>();
+        byte[] buffer = new byte[64];
+        for (ByteBuffer entry : dictionary.fsa) {
+            int length = 0;
+            while (entry.hasRemaining()) {
+                byte b = entry.get();
+                if (b == separator) {
+                    break;
+                }
+                if (length == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, length * 2);
+                }
+                buffer[length++] = b;
+            }
+            words.add(new String(buffer, 0, length, charset));
+        }
+        return words;
+    }
+}
@@ -0,0 +1,121 @@
+package io.nncdevel.maven.spellcheck.engine;
+
+import io.nncdevel.maven.spellcheck.text.WordTokenizer;
+import org.languagetool.JLanguageTool;
+import org.languagetool.Language;
+import org.languagetool.rules.spelling.morfologik.MorfologikSpellerRule;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Spelling engine that looks words up directly in the Morfologik
+ * dictionary shipped with the LanguageTool language module.
+ * It skips sentence splitting, tagging and disambiguation entirely,
+ * which makes it much faster on source code comments where grammar
+ * context is meaningless.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public class SpellerEngine implements SpellingEngine {
+
+    private final EngineContext context;
+    private final MorfologikSpellerRule spellerRule;
+    private final String message;
+    private final int maxSuggestions;
+
+    /**
+     * Creates a new speller engine.
+     *
+     * @param context the state shared by all engines
+     * @throws IOException if the language has no Morfologik dictionary or it cannot be loaded
+     */
+    public SpellerEngine(EngineContext context) throws IOException {
+        Language language = context.getLanguage();
+        ResourceBundle messages = JLanguageTool.getMessageBundle(language);
+        this.context = context;
+        this.spellerRule = SpellerDictionary.createRule(language);
+        this.message = messages.getString("spelling");
+        this.maxSuggestions = context.getConfig().getMaxSuggestions();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The speller is not thread-safe, so checks and the suggestions that
+     * are computed later on demand are synchronized on the engine.
+     */
+    @Override
+    public synchronized List<SpellingMatch> check(String text) throws IOException {
+        return check(text, () -> false);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Cancellation is checked before each word.
+     */
+    @Override
+    public synchronized List<SpellingMatch> check(String text, BooleanSupplier cancelled) throws IOException {
+        List<SpellingMatch> result = new ArrayList<>();
+
+        WordTokenizer words = new WordTokenizer(text);
+        while (words.next()) {
+            if (cancelled.getAsBoolean()) {
+                throw new CancellationException("Check cancelled");
+            }
+            int start = words.start();
+            // Like LanguageTool, skip annotations, mentions and hashtags
+            if (start > 0 && (text.charAt(start - 1) == '@' || text.charAt(start - 1) == '#')) {
+                continue;
+            }
+            WordVerdictCache.Verdict verdict = context.getWordCache().get(text.substring(start, words.end()), this::lookup);
+            if (verdict.isMisspelled()) {
+                result.add(new SpellingMatch(start, words.end(), message, verdict::getSuggestions));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Looks a word up in the ignore list and the dictionary.
+     * Ignored words are accepted before the speller is consulted, so no
+     * suggestions are ever built for them. Suggestions for misspelled words
+     * are only built when a report asks for them, and not at all if
+     * {@code maxSuggestions} is zero.
+     *
+     * @param word the word
+     * @return the verdict
+     * @throws IOException if the lookup fails
+     */
+    private WordVerdictCache.Verdict lookup(String word) throws IOException {
+        if (context.isIgnored(word) || !spellerRule.isMisspelled(word)) {
+            return WordVerdictCache.Verdict.correct();
+        }
+        if (maxSuggestions <= 0) {
+            return WordVerdictCache.Verdict.misspelled(Collections.emptyList());
+        }
+        return WordVerdictCache.Verdict.misspelled(() -> suggest(word));
+    }
+
+    /**
+     * Builds the suggestions for a misspelled word.
+     *
+     * @param word the word
+     * @return at most {@code maxSuggestions} suggestions
+     */
+    private synchronized List<String> suggest(String word) {
+        try {
+            List<String> suggestions = spellerRule.getSpellingSuggestions(word);
+            return suggestions.size() > maxSuggestions
+                ? new ArrayList<>(suggestions.subList(0, maxSuggestions)) : suggestions;
+        } catch (IOException e) {
+            return Collections.emptyList();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package io.nncdevel.maven.spellcheck.engine;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * A spelling engine that finds misspelled words in text.
+ * Implementations are not required to be thread-safe; use an
+ * {@link InstancePool} to share engines between threads.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public interface SpellingEngine {
+
+    /**
+     * Checks the given text for spelling errors.
+     *
+     * @param text the text to check
+     * @return the spelling matches, ordered by position
+     * @throws IOException if the check fails
+     */
+    List<SpellingMatch> check(String text) throws IOException;
+
+    /**
+     * Checks the given text for spelling errors, stopping early once the
+     * check is cancelled. Engines that cannot stop early check the whole text.
+     *
+     * @param text      the text to check
+     * @param cancelled tells whether the check has been cancelled
+     * @return the spelling matches, ordered by position
+     * @throws IOException if the check fails
+     * @throws java.util.concurrent.CancellationException if the check was cancelled before it completed
+     */
+    default List<SpellingMatch> check(String text, BooleanSupplier cancelled) throws IOException {
+        return check(text);
+    }
+}
@@ -0,0 +1,81 @@
+package io.nncdevel.maven.spellcheck.engine;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * A misspelled word found by a {@link SpellingEngine}.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public class SpellingMatch {
+
+    private final int fromPos;
+    private final int toPos;
+    private final String message;
+    private final Supplier<List<String>> suggestions;
+
+    /**
+     * Creates a new spelling match.
+     *
+     * @param fromPos     the start offset of the word in the checked text
+     * @param toPos       the end offset (exclusive) of the word in the checked text
+     * @param message     the error message
+     * @param suggestions suggested corrections
+     */
+    public SpellingMatch(int fromPos, int toPos, String message, List<String> suggestions) {
+        this(fromPos, toPos, message, () -> suggestions);
+    }
+
+    /**
+     * Creates a new spelling match whose suggestions are computed on demand.
+     *
+     * @param fromPos     the start offset of the word in the checked text
+     * @param toPos       the end offset (exclusive) of the word in the checked text
+     * @param message     the error message
+     * @param suggestions computes the suggested corrections; it must be safe to call from any thread
+     */
+    public SpellingMatch(int fromPos, int toPos, String message, Supplier<List<String>> suggestions) {
+        this.fromPos = fromPos;
+        this.toPos = toPos;
+        this.message = message;
+        this.suggestions = suggestions;
+    }
+
+    /**
+     * Gets the start offset of the word.
+     *
+     * @return the start offset
+     */
+    public int getFromPos() {
+        return fromPos;
+    }
+
+    /**
+     * Gets the end offset (exclusive) of the word.
+     *
+     * @return the end offset
+     */
+    public int getToPos() {
+        return toPos;
+    }
+
+    /**
+     * Gets the error message.
+     *
+     * @return the message
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Gets the suggested corrections, computing them if necessary.
+     *
+     * @return the list of suggestions
+     */
+    public List<String> getSuggestions() {
+        return suggestions.get();
+    }
+}
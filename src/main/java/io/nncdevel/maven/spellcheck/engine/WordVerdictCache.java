@@ -0,0 +1,234 @@
+package io.nncdevel.maven.spellcheck.engine;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * A bounded, thread-safe cache of spelling verdicts shared by all engines
+ * of a run. Words are cached with their exact spelling because the verdict
+ * depends on case. When the cache is full, the oldest entries are evicted first.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public class WordVerdictCache {
+
+    /**
+     * The cached verdict for a single word.
+     */
+    public static final class Verdict {
+
+        private static final Verdict CORRECT = new Verdict(false, Collections.emptyList(), null);
+
+        private final boolean misspelled;
+        private Supplier<List<String>> suggestionSupplier;
+        private volatile List<String> suggestions;
+
+        private Verdict(boolean misspelled, List<String> suggestions, Supplier<List<String>> suggestionSupplier) {
+            this.misspelled = misspelled;
+            this.suggestions = suggestions;
+            this.suggestionSupplier = suggestionSupplier;
+        }
+
+        /**
+         * Gets the verdict for a correctly spelled word.
+         *
+         * @return the verdict
+         */
+        public static Verdict correct() {
+            return CORRECT;
+        }
+
+        /**
+         * Creates the verdict for a misspelled word.
+         *
+         * @param suggestions suggested corrections
+         * @return the verdict
+         */
+        public static Verdict misspelled(List<String> suggestions) {
+            return new Verdict(true, suggestions != null ? suggestions : Collections.emptyList(), null);
+        }
+
+        /**
+         * Creates the verdict for a misspelled word whose suggestions are
+         * computed the first time they are needed, and then kept.
+         *
+         * @param suggestionSupplier computes the suggested corrections; it must be safe to call from any thread
+         * @return the verdict
+         */
+        public static Verdict misspelled(Supplier<List<String>> suggestionSupplier) {
+            return new Verdict(true, null, suggestionSupplier);
+        }
+
+        /**
+         * Checks whether the word is misspelled.
+         *
+         * @return true if the word is misspelled
+         */
+        public boolean isMisspelled() {
+            return misspelled;
+        }
+
+        /**
+         * Gets the suggested corrections, computing them on first use.
+         *
+         * @return the list of suggestions, empty for correct words
+         */
+        public List<String> getSuggestions() {
+            List<String> result = suggestions;
+            if (result == null) {
+                synchronized (this) {
+                    result = suggestions;
+                    if (result == null) {
+                        result = suggestionSupplier.get();
+                        if (result == null) {
+                            result = Collections.emptyList();
+                        }
+                        suggestions = result;
+                        suggestionSupplier = null;
+                    }
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Checks whether the suggestions are known without computing them.
+         *
+         * @return true if the suggestions have been computed or were given up front
+         */
+        public boolean hasComputedSuggestions() {
+            return suggestions != null;
+        }
+    }
+
+    /**
+     * Computes the verdict of a word that is not cached.
+     */
+    @FunctionalInterface
+    public interface Loader {
+
+        /**
+         * Computes the verdict.
+         *
+         * @param word the word
+         * @return the verdict
+         * @throws IOException if the lookup fails
+         */
+        Verdict load(String word) throws IOException;
+    }
+
+    private final int maxSize;
+    private final ConcurrentHashMap<String, Verdict> entries;
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxSize the maximum number of cached words; zero disables caching
+     */
+    public WordVerdictCache(int maxSize) {
+        this.maxSize = Math.max(0, maxSize);
+        this.entries = new ConcurrentHashMap<>(Math.min(this.maxSize, 1 << 16));
+    }
+
+    /**
+     * Gets the verdict of a word, computing and caching it on a miss.
+     * Concurrent misses for the same word may compute the verdict more
+     * than once, but only one result is kept.
+     *
+     * @param word   the word
+     * @param loader computes the verdict on a miss
+     * @return the verdict
+     * @throws IOException if the loader fails
+     */
+    public Verdict get(String word, Loader loader) throws IOException {
+        Verdict verdict = maxSize > 0 ? entries.get(word) : null;
+        if (verdict != null) {
+            hits.increment();
+            return verdict;
+        }
+
+        misses.increment();
+        verdict = loader.load(word);
+        put(word, verdict);
+        return verdict;
+    }
+
+    /**
+     * Adds a verdict computed elsewhere, such as one restored from a snapshot.
+     *
+     * @param word    the word
+     * @param verdict the verdict
+     */
+    public void put(String word, Verdict verdict) {
+        if (maxSize > 0 && entries.putIfAbsent(word, verdict) == null) {
+            insertionOrder.offer(word);
+            evict();
+        }
+    }
+
+    /**
+     * Passes every cached word and its verdict to an action, oldest first.
+     * Entries added or evicted concurrently may or may not be included.
+     *
+     * @param action the action
+     */
+    public void forEach(BiConsumer<String, Verdict> action) {
+        for (String word : insertionOrder) {
+            Verdict verdict = entries.get(word);
+            if (verdict != null) {
+                action.accept(word, verdict);
+            }
+        }
+    }
+
+    /**
+     * Evicts the oldest entries until the cache fits its maximum size.
+     */
+    private void evict() {
+        while (entries.size() > maxSize) {
+            String eldest = insertionOrder.poll();
+            if (eldest == null) {
+                return;
+            }
+            entries.remove(eldest);
+        }
+    }
+
+    /**
+     * Gets the number of cached words.
+     *
+     * @return the cache size
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the number of lookups answered from the cache.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of lookups that had to be computed.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+}
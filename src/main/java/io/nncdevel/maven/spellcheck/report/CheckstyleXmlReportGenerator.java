@@ -56,11 +56,12 @@ public class CheckstyleXmlReportGenerator {
                         error.getMessage()
                     ));
 
-                    if (error.getSuggestions() != null && !error.getSuggestions().isEmpty()) {
+                    List<String> suggestions = report.getUniqueMisspellings().getSuggestions(error);
+                    if (!suggestions.isEmpty()) {
                         message.append(" [Suggestions: ");
-                        int suggestionCount = Math.min(3, error.getSuggestions().size());
+                        int suggestionCount = Math.min(3, suggestions.size());
                         message.append(String.join(", ",
-                            error.getSuggestions().subList(0, suggestionCount)));
+                            suggestions.subList(0, suggestionCount)));
                         message.append("]");
                     }
 
@@ -73,11 +73,12 @@ public class JUnitXmlReportGenerator {
                         error.getMessage()
                     ));
 
-                    if (error.getSuggestions() != null && !error.getSuggestions().isEmpty()) {
+                    List<String> suggestions = report.getUniqueMisspellings().getSuggestions(error);
+                    if (!suggestions.isEmpty()) {
                         failureDetail.append(" [Suggestions: ");
-                        int suggestionCount = Math.min(3, error.getSuggestions().size());
+                        int suggestionCount = Math.min(3, suggestions.size());
                         failureDetail.append(String.join(", ",
-                            error.getSuggestions().subList(0, suggestionCount)));
+                            suggestions.subList(0, suggestionCount)));
                         failureDetail.append("]");
                     }
                     failureDetail.append("\n");
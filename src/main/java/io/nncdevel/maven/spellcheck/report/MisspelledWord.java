@@ -0,0 +1,191 @@
+package io.nncdevel.maven.spellcheck.report;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * All occurrences of one misspelled word in a project. Occurrences are
+ * stored as compact (file, line, column) records, and the spelling, message
+ * and suggestions are kept once per distinct spelling rather than once per
+ * occurrence.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public class MisspelledWord {
+
+    private final String normalizedWord;
+    private final SpellError firstError;
+    private final List<SpellError> variants = new ArrayList<>(1);
+    private final List<Occurrence> occurrences = new ArrayList<>();
+    private final BitSet files = new BitSet();
+
+    /**
+     * Creates a new misspelled word.
+     *
+     * @param normalizedWord the normalized spelling that identifies the word
+     * @param firstError     the first occurrence, which provides the spelling, message and suggestions
+     */
+    MisspelledWord(String normalizedWord, SpellError firstError) {
+        this.normalizedWord = normalizedWord;
+        this.firstError = firstError;
+    }
+
+    /**
+     * Records an occurrence. The error is kept only if it is the first one
+     * with its spelling and message.
+     *
+     * @param error     the spell error
+     * @param fileIndex the number of the file in the order the files were reported
+     */
+    void addOccurrence(SpellError error, int fileIndex) {
+        SpellError variant = null;
+        for (SpellError candidate : variants) {
+            if (candidate.getWord().equals(error.getWord()) && Objects.equals(candidate.getMessage(), error.getMessage())) {
+                variant = candidate;
+                break;
+            }
+        }
+        if (variant == null) {
+            variant = error;
+            variants.add(error);
+        }
+        occurrences.add(new Occurrence(error.getFile(), error.getLine(), error.getColumn(), variant));
+        files.set(fileIndex);
+    }
+
+    /**
+     * Gets the normalized spelling that identifies the word.
+     *
+     * @return the normalized word
+     */
+    public String getNormalizedWord() {
+        return normalizedWord;
+    }
+
+    /**
+     * Gets the spelling of the first occurrence.
+     *
+     * @return the word
+     */
+    public String getWord() {
+        return firstError.getWord();
+    }
+
+    /**
+     * Gets the error message of the first occurrence.
+     *
+     * @return the message
+     */
+    public String getMessage() {
+        return firstError.getMessage();
+    }
+
+    /**
+     * Gets the suggested corrections. They are computed once for the word,
+     * from the spelling of its first occurrence.
+     *
+     * @return the list of suggestions
+     */
+    public List<String> getSuggestions() {
+        return firstError.getSuggestions();
+    }
+
+    /**
+     * Gets the number of occurrences.
+     *
+     * @return the occurrence count
+     */
+    public int getOccurrenceCount() {
+        return occurrences.size();
+    }
+
+    /**
+     * Gets the number of distinct files the word occurs in.
+     *
+     * @return the file count
+     */
+    public int getFileCount() {
+        return files.cardinality();
+    }
+
+    /**
+     * Gets the occurrences in the order they were reported.
+     *
+     * @return the occurrences
+     */
+    public List<Occurrence> getOccurrences() {
+        return Collections.unmodifiableList(occurrences);
+    }
+
+    /**
+     * The location of one occurrence of a misspelled word.
+     */
+    public static final class Occurrence {
+
+        private final File file;
+        private final int line;
+        private final int column;
+        private final SpellError variant;
+
+        Occurrence(File file, int line, int column, SpellError variant) {
+            this.file = file;
+            this.line = line;
+            this.column = column;
+            this.variant = variant;
+        }
+
+        /**
+         * Gets the file containing the occurrence.
+         *
+         * @return the file
+         */
+        public File getFile() {
+            return file;
+        }
+
+        /**
+         * Gets the line number.
+         *
+         * @return the line number (1-based)
+         */
+        public int getLine() {
+            return line;
+        }
+
+        /**
+         * Gets the column number.
+         *
+         * @return the column number (1-based)
+         */
+        public int getColumn() {
+            return column;
+        }
+
+        /**
+         * Gets the spelling of the occurrence.
+         *
+         * @return the word as it appears in the file
+         */
+        public String getWord() {
+            return variant.getWord();
+        }
+
+        /**
+         * Rebuilds the spell error of the occurrence. It shares the
+         * suggestions of the first error with the same spelling.
+         *
+         * @return the spell error
+         */
+        SpellError toError() {
+            if (variant.getFile().equals(file) && variant.getLine() == line && variant.getColumn() == column) {
+                return variant;
+            }
+            return new SpellError(file, line, column, variant.getWord(), variant.getMessage(), variant::getSuggestions);
+        }
+    }
+}
@@ -5,7 +5,7 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -18,8 +18,10 @@ import java.util.Map;
 public class SpellCheckReport {
 
     private int filesChecked = 0;
-    private final List<SpellError> errors = new ArrayList<>();
-    private final Map<File, List<SpellError>> errorsByFile = new HashMap<>();
+    private final List<File> timedOutFiles = new ArrayList<>();
+    private final List<File> quarantinedFiles = new ArrayList<>();
+    private final UniqueMisspellings uniqueMisspellings = new UniqueMisspellings();
+    private final Map<String, String> statistics = new LinkedHashMap<>();
 
     /**
      * Increments the count of files checked.
@@ -29,13 +31,61 @@ public class SpellCheckReport {
     }
 
     /**
-     * Adds a spell error to the report.
+     * Adds a spell error to the report. The error is stored only in the
+     * unique misspellings, which provide every other view of the errors.
      *
      * @param error the spell error
      */
     public void addError(SpellError error) {
-        errors.add(error);
-        errorsByFile.computeIfAbsent(error.getFile(), k -> new ArrayList<>()).add(error);
+        uniqueMisspellings.add(error);
+    }
+
+    /**
+     * Adds a file whose check was cancelled because it exceeded the time limit.
+     *
+     * @param file the file
+     */
+    public void addTimedOutFile(File file) {
+        timedOutFiles.add(file);
+    }
+
+    /**
+     * Gets the files whose check timed out, in the order they were reported.
+     * They are not counted as checked.
+     *
+     * @return the timed out files
+     */
+    public List<File> getTimedOutFiles() {
+        return new ArrayList<>(timedOutFiles);
+    }
+
+    /**
+     * Adds a file that was skipped because an earlier check of it timed out.
+     *
+     * @param file the file
+     */
+    public void addQuarantinedFile(File file) {
+        quarantinedFiles.add(file);
+    }
+
+    /**
+     * Gets the files skipped because they are quarantined, in the order they
+     * were found. They are not counted as checked.
+     *
+     * @return the quarantined files
+     */
+    public List<File> getQuarantinedFiles() {
+        return new ArrayList<>(quarantinedFiles);
+    }
+
+    /**
+     * Gets the number of files found for checking, including the files
+     * whose check timed out and the quarantined files.
+     *
+     * @return the number of files
+     */
+    public int getFilesFound() {
+        return filesChecked + timedOutFiles.size() + quarantinedFiles.size();
     }
 
     /**
@@ -53,7 +103,7 @@ public class SpellCheckReport {
      * @return the error count
      */
     public int getErrorCount() {
-        return errors.size();
+        return uniqueMisspellings.getErrorCount();
     }
 
     /**
@@ -62,25 +112,54 @@ public class SpellCheckReport {
      * @return true if errors exist
      */
     public boolean hasErrors() {
-        return !errors.isEmpty();
+        return uniqueMisspellings.getErrorCount() > 0;
     }
 
     /**
-     * Gets all errors.
+     * Gets all errors, grouped by file in the order the files were reported,
+     * and ordered by position within each file.
      *
      * @return the list of errors
      */
     public List<SpellError> getErrors() {
-        return new ArrayList<>(errors);
+        return uniqueMisspellings.getErrors();
     }
 
     /**
-     * Gets errors grouped by file.
+     * Gets errors grouped by file, in the order the files were reported.
      *
      * @return map of file to errors
      */
     public Map<File, List<SpellError>> getErrorsByFile() {
-        return new HashMap<>(errorsByFile);
+        return uniqueMisspellings.getErrorsByFile();
+    }
+
+    /**
+     * Gets the errors aggregated by misspelled word.
+     *
+     * @return the unique misspellings
+     */
+    public UniqueMisspellings getUniqueMisspellings() {
+        return uniqueMisspellings;
+    }
+
+    /**
+     * Adds a named statistic about the spell check run, such as cache usage.
+     *
+     * @param name  the statistic name
+     * @param value the statistic value
+     */
+    public void addStatistic(String name, String value) {
+        statistics.put(name, value);
+    }
+
+    /**
+     * Gets the statistics about the spell check run, in the order they were added.
+     *
+     * @return map of statistic name to value
+     */
+    public Map<String, String> getStatistics() {
+        return new LinkedHashMap<>(statistics);
     }
 
     /**
@@ -99,21 +178,78 @@ public class SpellCheckReport {
 
             writer.write("Files checked: " + filesChecked);
             writer.newLine();
-            writer.write("Errors found: " + errors.size());
+            writer.write("Errors found: " + getErrorCount());
+            writer.newLine();
+            writer.write("Unique misspelled words: " + uniqueMisspellings.size());
             writer.newLine();
+            if (!timedOutFiles.isEmpty()) {
+                writer.write("Files timed out: " + timedOutFiles.size());
+                writer.newLine();
+            }
+            if (!quarantinedFiles.isEmpty()) {
+                writer.write("Files quarantined: " + quarantinedFiles.size());
+                writer.newLine();
+            }
             writer.newLine();
 
-            if (errors.isEmpty()) {
+            if (!timedOutFiles.isEmpty()) {
+                writer.write("Timed out files:");
+                writer.newLine();
+                writer.write("----------------");
+                writer.newLine();
+                writer.newLine();
+
+                for (File file : timedOutFiles) {
+                    writer.write("  " + file.getPath());
+                    writer.newLine();
+                }
+                writer.newLine();
+            }
+
+            if (!quarantinedFiles.isEmpty()) {
+                writer.write("Quarantined files:");
+                writer.newLine();
+                writer.write("------------------");
+                writer.newLine();
+                writer.newLine();
+
+                for (File file : quarantinedFiles) {
+                    writer.write("  " + file.getPath());
+                    writer.newLine();
+                }
+                writer.newLine();
+            }
+
+            if (!hasErrors()) {
                 writer.write("No spelling errors found!");
                 writer.newLine();
             } else {
+                writer.write("Unique words:");
+                writer.newLine();
+                writer.write("-------------");
+                writer.newLine();
+                writer.newLine();
+
+                for (MisspelledWord word : uniqueMisspellings.getWords()) {
+                    writer.write("  '" + word.getWord() + "': " + word.getOccurrenceCount() +
+                               " occurrence(s) in " + word.getFileCount() + " file(s)");
+                    writer.newLine();
+                    List<String> suggestions = word.getSuggestions();
+                    if (!suggestions.isEmpty()) {
+                        writer.write("    Suggestions: " +
+                                   String.join(", ", suggestions.subList(0, Math.min(5, suggestions.size()))));
+                        writer.newLine();
+                    }
+                }
+                writer.newLine();
+
                 writer.write("Errors by file:");
                 writer.newLine();
                 writer.write("---------------");
                 writer.newLine();
                 writer.newLine();
 
-                for (Map.Entry<File, List<SpellError>> entry : errorsByFile.entrySet()) {
+                for (Map.Entry<File, List<SpellError>> entry : getErrorsByFile().entrySet()) {
                     writer.write(entry.getKey().getPath());
                     writer.newLine();
 
@@ -125,10 +261,10 @@ public class SpellCheckReport {
                         writer.write("    " + error.getMessage());
                         writer.newLine();
 
-                        if (error.getSuggestions() != null && !error.getSuggestions().isEmpty()) {
+                        List<String> suggestions = uniqueMisspellings.getSuggestions(error);
+                        if (!suggestions.isEmpty()) {
                             writer.write("    Suggestions: " +
-                                       String.join(", ",
-                                           error.getSuggestions().subList(0, Math.min(5, error.getSuggestions().size()))));
+                                       String.join(", ", suggestions.subList(0, Math.min(5, suggestions.size()))));
                             writer.newLine();
                         }
                         writer.newLine();
@@ -142,7 +278,9 @@ public class SpellCheckReport {
     public String toString() {
         return "SpellCheckReport{" +
                "filesChecked=" + filesChecked +
-               ", errorCount=" + errors.size() +
+               ", errorCount=" + getErrorCount() +
+               ", timedOutFiles=" + timedOutFiles.size() +
+               ", quarantinedFiles=" + quarantinedFiles.size() +
                '}';
     }
 }
@@ -1,7 +1,9 @@
 package io.nncdevel.maven.spellcheck.report;
 
 import java.io.File;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Represents a single spelling error.
@@ -16,7 +18,8 @@ public class SpellError {
     private final int column;
     private final String word;
     private final String message;
-    private final List<String> suggestions;
+    private Supplier<List<String>> suggestionSupplier;
+    private volatile List<String> suggestions;
 
     /**
      * Creates a new spell error.
@@ -34,7 +37,29 @@ public class SpellError {
         this.column = column;
         this.word = word;
         this.message = message;
-        this.suggestions = suggestions;
+        this.suggestions = suggestions != null ? suggestions : Collections.emptyList();
+    }
+
+    /**
+     * Creates a new spell error whose suggestions are computed on first use.
+     * Building suggestions is expensive, so they are only computed if a
+     * report actually asks for them.
+     *
+     * @param file               the file containing the error
+     * @param line               the line number (1-based)
+     * @param column             the column number (1-based)
+     * @param word               the misspelled word
+     * @param message            the error message
+     * @param suggestionSupplier computes the suggested corrections
+     */
+    public SpellError(File file, int line, int column, String word, String message,
+                      Supplier<List<String>> suggestionSupplier) {
+        this.file = file;
+        this.line = line;
+        this.column = column;
+        this.word = word;
+        this.message = message;
+        this.suggestionSupplier = suggestionSupplier;
     }
 
     /**
@@ -83,12 +108,26 @@ public class SpellError {
     }
 
     /**
-     * Gets the suggested corrections.
+     * Gets the suggested corrections, computing them on first use.
      *
      * @return the list of suggestions
      */
     public List<String> getSuggestions() {
-        return suggestions;
+        List<String> result = suggestions;
+        if (result == null) {
+            synchronized (this) {
+                result = suggestions;
+                if (result == null) {
+                    result = suggestionSupplier.get();
+                    if (result == null) {
+                        result = Collections.emptyList();
+                    }
+                    suggestions = result;
+                    suggestionSupplier = null;
+                }
+            }
+        }
+        return result;
     }
 
     @Override
@@ -100,7 +139,8 @@ public class SpellError {
           .append("'").append(word).append("' - ")
           .append(message);
 
-        if (suggestions != null && !suggestions.isEmpty()) {
+        List<String> suggestions = getSuggestions();
+        if (!suggestions.isEmpty()) {
             sb.append(" [Suggestions: ");
             sb.append(String.join(", ", suggestions.subList(0, Math.min(3, suggestions.size()))));
             sb.append("]");
@@ -0,0 +1,161 @@
+package io.nncdevel.maven.spellcheck.report;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Aggregates spelling errors by misspelled word. A word that occurs
+ * thousands of times across a project is reported once, with the number
+ * of occurrences and the files it occurs in. Spellings that differ only
+ * in case or in the apostrophe character are the same word.
+ * <p>
+ * This is the only place where the errors of a report are stored. Each
+ * word keeps a compact (file, line, column) record per occurrence, and the
+ * spelling, message and suggestions once per distinct spelling. The list
+ * of all errors and the errors of each file are built from the records
+ * when asked for.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public class UniqueMisspellings {
+
+    private final Map<String, MisspelledWord> words = new LinkedHashMap<>();
+    private final List<File> files = new ArrayList<>();
+    private final Map<File, Integer> fileIndexes = new HashMap<>();
+    private int errorCount;
+
+    /**
+     * Adds an error to the aggregation.
+     *
+     * @param error the spell error
+     */
+    public void add(SpellError error) {
+        Integer fileIndex = fileIndexes.get(error.getFile());
+        if (fileIndex == null) {
+            fileIndex = files.size();
+            files.add(error.getFile());
+            fileIndexes.put(error.getFile(), fileIndex);
+        }
+        errorCount++;
+
+        String normalizedWord = normalize(error.getWord());
+        words.computeIfAbsent(normalizedWord, w -> new MisspelledWord(w, error))
+            .addOccurrence(error, fileIndex);
+    }
+
+    /**
+     * Normalizes the spelling of a word for aggregation.
+     *
+     * @param word the word
+     * @return the normalized word
+     */
+    static String normalize(String word) {
+        return word.replace('’', '\'').toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Gets the number of distinct misspelled words.
+     *
+     * @return the word count
+     */
+    public int size() {
+        return words.size();
+    }
+
+    /**
+     * Gets the total number of errors.
+     *
+     * @return the error count
+     */
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * Gets all errors, grouped by file in the order the files were reported,
+     * and ordered by position within each file.
+     *
+     * @return the list of errors
+     */
+    public List<SpellError> getErrors() {
+        List<SpellError> result = new ArrayList<>(errorCount);
+        for (List<SpellError> fileErrors : getErrorsByFile().values()) {
+            result.addAll(fileErrors);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the errors grouped by file, in the order the files were reported,
+     * and ordered by position within each file.
+     *
+     * @return map of file to errors
+     */
+    public Map<File, List<SpellError>> getErrorsByFile() {
+        List<List<MisspelledWord.Occurrence>> occurrencesByFile = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            occurrencesByFile.add(new ArrayList<>());
+        }
+        for (MisspelledWord word : words.values()) {
+            for (MisspelledWord.Occurrence occurrence : word.getOccurrences()) {
+                occurrencesByFile.get(fileIndexes.get(occurrence.getFile())).add(occurrence);
+            }
+        }
+
+        Map<File, List<SpellError>> result = new LinkedHashMap<>();
+        for (int i = 0; i < files.size(); i++) {
+            List<MisspelledWord.Occurrence> occurrences = occurrencesByFile.get(i);
+            occurrences.sort(Comparator.comparingInt(MisspelledWord.Occurrence::getLine)
+                .thenComparingInt(MisspelledWord.Occurrence::getColumn));
+            List<SpellError> fileErrors = new ArrayList<>(occurrences.size());
+            for (MisspelledWord.Occurrence occurrence : occurrences) {
+                fileErrors.add(occurrence.toError());
+            }
+            result.put(files.get(i), fileErrors);
+        }
+        return result;
+    }
+
+    /**
+     * Gets a misspelled word by its spelling.
+     *
+     * @param word any spelling of the word
+     * @return the misspelled word, or null if it was not reported
+     */
+    public MisspelledWord get(String word) {
+        return words.get(normalize(word));
+    }
+
+    /**
+     * Gets the suggestions for an error. Errors with the same spelling as the
+     * first occurrence of their word share its suggestions, so they are
+     * computed once per word however often it occurs.
+     *
+     * @param error a spell error added to the aggregation
+     * @return the list of suggestions
+     */
+    public List<String> getSuggestions(SpellError error) {
+        MisspelledWord word = get(error.getWord());
+        return word != null && word.getWord().equals(error.getWord()) ? word.getSuggestions() : error.getSuggestions();
+    }
+
+    /**
+     * Gets the misspelled words, most frequent first. Words with the same
+     * number of occurrences are ordered alphabetically.
+     *
+     * @return the misspelled words
+     */
+    public List<MisspelledWord> getWords() {
+        List<MisspelledWord> result = new ArrayList<>(words.values());
+        result.sort(Comparator.comparingInt(MisspelledWord::getOccurrenceCount).reversed()
+            .thenComparing(MisspelledWord::getNormalizedWord));
+        return result;
+    }
+}
@@ -0,0 +1,142 @@
+package io.nncdevel.maven.spellcheck.text;
+
+/**
+ * A compact probabilistic set of words. A negative answer is always
+ * correct; a positive answer is wrong with the configured false positive
+ * probability. Lookups work directly on a range of a larger text, optionally
+ * folding it to lower case, so no strings are allocated.
+ * The filter is safe for concurrent reads once all words have been added.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public class BloomFilter {
+
+    private final long[] bits;
+    private final int bitCount;
+    private final int hashCount;
+
+    /**
+     * Creates a filter sized for the expected number of words.
+     *
+     * @param expectedWords            the expected number of words
+     * @param falsePositiveProbability the acceptable false positive probability
+     */
+    public BloomFilter(int expectedWords, double falsePositiveProbability) {
+        long size = (long) Math.ceil(-Math.max(1, expectedWords) * Math.log(falsePositiveProbability)
+                                     / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, size));
+        this.bits = new long[(bitCount + 63) / 64];
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / Math.max(1, expectedWords) * Math.log(2)));
+    }
+
+    /**
+     * Restores a filter from the state of another filter.
+     *
+     * @param bits      the bit array, as returned by {@link #getBits()}
+     * @param bitCount  the number of bits used
+     * @param hashCount the number of hash functions
+     * @throws IllegalArgumentException if the state is inconsistent
+     */
+    public BloomFilter(long[] bits, int bitCount, int hashCount) {
+        if (bitCount <= 0 || hashCount <= 0 || bits.length != (bitCount + 63) / 64) {
+            throw new IllegalArgumentException("Invalid Bloom filter state");
+        }
+        this.bits = bits;
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * Adds a word to the filter.
+     *
+     * @param word the word
+     */
+    public void add(CharSequence word) {
+        long hash = hash(word, 0, word.length(), false);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitCount);
+            bits[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    /**
+     * Checks whether a word might be in the filter.
+     *
+     * @param word the word
+     * @return false if the word is definitely not in the filter
+     */
+    public boolean mightContain(CharSequence word) {
+        return mightContain(word, 0, word.length(), false);
+    }
+
+    /**
+     * Checks whether a range of a text might be a word in the filter.
+     *
+     * @param text      the text
+     * @param start     the start offset of the word
+     * @param end       the end offset (exclusive) of the word
+     * @param lowerCase true to look up the lower-case form of the word
+     * @return false if the word is definitely not in the filter
+     */
+    public boolean mightContain(CharSequence text, int start, int end, boolean lowerCase) {
+        long hash = hash(text, start, end, lowerCase);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Computes a 64-bit FNV-1a hash with a final avalanche step.
+     */
+    private static long hash(CharSequence text, int start, int end, boolean lowerCase) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (lowerCase) {
+                c = Character.toLowerCase(c);
+            }
+            hash ^= c;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * Gets the bit array of the filter, which must not be modified.
+     *
+     * @return the bit array
+     */
+    public long[] getBits() {
+        return bits;
+    }
+
+    /**
+     * Gets the number of bits used.
+     *
+     * @return the bit count
+     */
+    public int getBitCount() {
+        return bitCount;
+    }
+
+    /**
+     * Gets the number of hash functions.
+     *
+     * @return the hash count
+     */
+    public int getHashCount() {
+        return hashCount;
+    }
+}
@@ -0,0 +1,213 @@
+package io.nncdevel.maven.spellcheck.text;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Finds forbidden words in a text with an Aho-Corasick automaton, so a
+ * text is scanned in a single pass however many words are forbidden.
+ * <p>
+ * Words are matched ignoring case, and only as whole words: a match must
+ * not be preceded or followed by a letter or a digit. A word may name its
+ * replacement in the CSpell form {@code word->replacement}. The matcher is
+ * read-only once built and safe for concurrent use.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public final class FlagWordMatcher {
+
+    private static final String REPLACEMENT_SEPARATOR = "->";
+
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] fail;
+    private final int[] output;
+    private final int[] outputLink;
+    private final String[] words;
+    private final String[] replacements;
+
+    /**
+     * Creates a new matcher.
+     *
+     * @param flagWords the forbidden words, optionally followed by {@code ->} and a replacement
+     */
+    public FlagWordMatcher(Collection<String> flagWords) {
+        List<TreeMap<Character, Integer>> edges = new ArrayList<>();
+        List<Integer> outputs = new ArrayList<>();
+        List<String> wordList = new ArrayList<>();
+        List<String> replacementList = new ArrayList<>();
+        edges.add(new TreeMap<>());
+        outputs.add(-1);
+
+        for (String flagWord : flagWords) {
+            int separator = flagWord.indexOf(REPLACEMENT_SEPARATOR);
+            String word = (separator >= 0 ? flagWord.substring(0, separator) : flagWord).trim();
+            String replacement = separator >= 0
+                ? flagWord.substring(separator + REPLACEMENT_SEPARATOR.length()).trim() : "";
+            if (word.isEmpty()) {
+                continue;
+            }
+
+            int node = 0;
+            for (int i = 0; i < word.length(); i++) {
+                char c = Character.toLowerCase(word.charAt(i));
+                Integer next = edges.get(node).get(c);
+                if (next == null) {
+                    next = edges.size();
+                    edges.get(node).put(c, next);
+                    edges.add(new TreeMap<>());
+                    outputs.add(-1);
+                }
+                node = next;
+            }
+            if (outputs.get(node) < 0) {
+                outputs.set(node, wordList.size());
+                wordList.add(word);
+                replacementList.add(replacement);
+            }
+        }
+
+        int nodes = edges.size();
+        this.labels = new char[nodes][];
+        this.targets = new int[nodes][];
+        this.fail = new int[nodes];
+        this.output = new int[nodes];
+        this.outputLink = new int[nodes];
+        this.words = wordList.toArray(new String[0]);
+        this.replacements = replacementList.toArray(new String[0]);
+
+        for (int node = 0; node < nodes; node++) {
+            Map<Character, Integer> nodeEdges = edges.get(node);
+            labels[node] = new char[nodeEdges.size()];
+            targets[node] = new int[nodeEdges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : nodeEdges.entrySet()) {
+                labels[node][i] = edge.getKey();
+                targets[node][i] = edge.getValue();
+                i++;
+            }
+            output[node] = outputs.get(node);
+        }
+
+        // Link each node to its longest proper suffix in the trie, breadth first
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[0]) {
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < labels[node].length; i++) {
+                int child = targets[node][i];
+                int suffix = fail[node];
+                int next;
+                while ((next = step(suffix, labels[node][i])) < 0 && suffix != 0) {
+                    suffix = fail[suffix];
+                }
+                fail[child] = next >= 0 ? next : 0;
+                outputLink[child] = output[fail[child]] >= 0 ? fail[child] : outputLink[fail[child]];
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Finds all forbidden words in a text.
+     *
+     * @param text the text to scan
+     * @return the matches, ordered by their end offset
+     */
+    public List<Match> find(CharSequence text) {
+        List<Match> matches = new ArrayList<>();
+        if (words.length == 0) {
+            return matches;
+        }
+
+        int node = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            int next;
+            while ((next = step(node, c)) < 0 && node != 0) {
+                node = fail[node];
+            }
+            node = next >= 0 ? next : 0;
+
+            for (int n = output[node] >= 0 ? node : outputLink[node]; n > 0; n = outputLink[n]) {
+                int index = output[n];
+                int start = i + 1 - words[index].length();
+                if (isBoundary(text, start - 1) && isBoundary(text, i + 1)) {
+                    matches.add(new Match(start, i + 1, words[index], replacements[index]));
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Gets the number of distinct forbidden words.
+     *
+     * @return the word count
+     */
+    public int size() {
+        return words.length;
+    }
+
+    private int step(int node, char c) {
+        char[] nodeLabels = labels[node];
+        int low = 0;
+        int high = nodeLabels.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (nodeLabels[middle] < c) {
+                low = middle + 1;
+            } else if (nodeLabels[middle] > c) {
+                high = middle - 1;
+            } else {
+                return targets[node][middle];
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isBoundary(CharSequence text, int index) {
+        return index < 0 || index >= text.length() || !Character.isLetterOrDigit(text.charAt(index));
+    }
+
+    /**
+     * A forbidden word found in a text.
+     */
+    public static final class Match extends TextRange {
+
+        private final String word;
+        private final String replacement;
+
+        Match(int start, int end, String word, String replacement) {
+            super(start, end);
+            this.word = word;
+            this.replacement = replacement;
+        }
+
+        /**
+         * Gets the forbidden word as configured.
+         *
+         * @return the forbidden word
+         */
+        public String getWord() {
+            return word;
+        }
+
+        /**
+         * Gets the configured replacement of the forbidden word.
+         *
+         * @return the replacement, or an empty string if none is configured
+         */
+        public String getReplacement() {
+            return replacement;
+        }
+    }
+}
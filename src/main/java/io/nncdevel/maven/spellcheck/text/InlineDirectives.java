@@ -0,0 +1,223 @@
+package io.nncdevel.maven.spellcheck.text;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The CSpell inline directives of a text, usually written in comments.
+ * The following directives are recognized, with either the
+ * {@code cspell:} or the {@code spell-checker:} prefix, ignoring case and
+ * any spaces between the colon and the directive name:
+ * <ul>
+ * <li>{@code disable} and {@code enable} turn checking off and on again;
+ * a text that is never enabled again is disabled to its end</li>
+ * <li>{@code disable-line} and {@code disable-next-line}, or its alias
+ * {@code disable-next}, turn checking off for the line of the directive or
+ * the line after it</li>
+ * <li>{@code ignore} and {@code words} accept the words that follow them on
+ * the same line in the whole text</li>
+ * </ul>
+ * The directives themselves are disabled too, so that their keywords are
+ * never reported.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public final class InlineDirectives {
+
+    private static final InlineDirectives NONE = new InlineDirectives(
+        Collections.emptyList(), Collections.emptyList());
+
+    private static final String[] PREFIXES = {"cspell", "spell-checker"};
+
+    private final List<TextRange> disabledRanges;
+    private final List<String> ignoreWords;
+
+    private InlineDirectives(List<TextRange> disabledRanges, List<String> ignoreWords) {
+        this.disabledRanges = disabledRanges;
+        this.ignoreWords = ignoreWords;
+    }
+
+    /**
+     * Finds the inline directives of a text in a single pass.
+     *
+     * @param text the text
+     * @return the directives
+     */
+    public static InlineDirectives parse(String text) {
+        List<TextRange> disabled = null;
+        List<String> words = null;
+        int disabledFrom = -1;
+
+        for (int colon = text.indexOf(':'); colon >= 0; colon = text.indexOf(':', colon + 1)) {
+            int start = findPrefixStart(text, colon);
+            if (start < 0) {
+                continue;
+            }
+            // CSpell allows spaces between the colon and the directive name
+            int nameStart = colon + 1;
+            while (nameStart < text.length() && (text.charAt(nameStart) == ' ' || text.charAt(nameStart) == '\t')) {
+                nameStart++;
+            }
+            int nameEnd = nameStart;
+            while (nameEnd < text.length() && (isAsciiLetter(text.charAt(nameEnd)) || text.charAt(nameEnd) == '-')) {
+                nameEnd++;
+            }
+            String name = text.substring(nameStart, nameEnd).toLowerCase(Locale.ROOT);
+            int lineStart = text.lastIndexOf('\n', start) + 1;
+            int lineEnd = findLineEnd(text, nameEnd);
+
+            TextRange range;
+            switch (name) {
+                case "disable":
+                    if (disabledFrom < 0) {
+                        disabledFrom = start;
+                    }
+                    continue;
+                case "enable":
+                    if (disabledFrom >= 0) {
+                        range = new TextRange(disabledFrom, nameEnd);
+                        disabledFrom = -1;
+                    } else {
+                        range = new TextRange(start, nameEnd);
+                    }
+                    break;
+                case "disable-line":
+                    range = new TextRange(lineStart, lineEnd);
+                    break;
+                case "disable-next":
+                case "disable-next-line":
+                    range = new TextRange(lineStart, findLineEnd(text, Math.min(text.length(), lineEnd + 1)));
+                    break;
+                case "ignore":
+                case "words":
+                    if (words == null) {
+                        words = new ArrayList<>();
+                    }
+                    WordTokenizer tokenizer = new WordTokenizer(text, nameEnd, lineEnd);
+                    while (tokenizer.next()) {
+                        words.add(text.substring(tokenizer.start(), tokenizer.end()));
+                    }
+                    range = new TextRange(start, lineEnd);
+                    break;
+                default:
+                    continue;
+            }
+            if (disabledFrom < 0) {
+                if (disabled == null) {
+                    disabled = new ArrayList<>();
+                }
+                disabled.add(range);
+            }
+            colon = Math.max(colon, nameEnd - 1);
+        }
+
+        if (disabledFrom >= 0) {
+            if (disabled == null) {
+                disabled = new ArrayList<>();
+            }
+            disabled.add(new TextRange(disabledFrom, text.length()));
+        }
+        if (disabled == null && words == null) {
+            return NONE;
+        }
+        return new InlineDirectives(
+            disabled != null ? merge(disabled) : Collections.emptyList(),
+            words != null ? words : Collections.emptyList());
+    }
+
+    /**
+     * Gets the disabled ranges of the text.
+     *
+     * @return the disabled ranges, ordered and not overlapping
+     */
+    public List<TextRange> getDisabledRanges() {
+        return disabledRanges;
+    }
+
+    /**
+     * Gets the words that are accepted in the text.
+     *
+     * @return the ignored words
+     */
+    public List<String> getIgnoreWords() {
+        return ignoreWords;
+    }
+
+    /**
+     * Checks whether the text has no directives.
+     *
+     * @return true if there are no disabled ranges and no ignored words
+     */
+    public boolean isEmpty() {
+        return disabledRanges.isEmpty() && ignoreWords.isEmpty();
+    }
+
+    /**
+     * Gets the ranges of a text outside the disabled ranges.
+     *
+     * @param length the length of the text
+     * @return the enabled ranges, in order
+     */
+    public List<TextRange> getEnabledRanges(int length) {
+        List<TextRange> enabled = new ArrayList<>();
+        int position = 0;
+        for (TextRange range : disabledRanges) {
+            if (range.getStart() > position) {
+                enabled.add(new TextRange(position, range.getStart()));
+            }
+            position = Math.max(position, range.getEnd());
+        }
+        if (position < length) {
+            enabled.add(new TextRange(position, length));
+        }
+        return enabled;
+    }
+
+    /**
+     * Finds the start of a directive prefix that ends right before a colon.
+     *
+     * @param text  the text
+     * @param colon the offset of the colon
+     * @return the start of the prefix, or -1 if the colon does not follow a prefix
+     */
+    private static int findPrefixStart(String text, int colon) {
+        for (String prefix : PREFIXES) {
+            int start = colon - prefix.length();
+            if (start >= 0 && text.regionMatches(true, start, prefix, 0, prefix.length())
+                && (start == 0 || !Character.isLetterOrDigit(text.charAt(start - 1)))) {
+                return start;
+            }
+        }
+        return -1;
+    }
+
+    private static int findLineEnd(String text, int from) {
+        int end = text.indexOf('\n', from);
+        return end >= 0 ? end : text.length();
+    }
+
+    private static List<TextRange> merge(List<TextRange> ranges) {
+        ranges.sort(Comparator.comparingInt(TextRange::getStart));
+        List<TextRange> merged = new ArrayList<>();
+        TextRange current = ranges.get(0);
+        for (int i = 1; i < ranges.size(); i++) {
+            TextRange next = ranges.get(i);
+            if (next.getStart() <= current.getEnd()) {
+                current = new TextRange(current.getStart(), Math.max(current.getEnd(), next.getEnd()));
+            } else {
+                merged.add(current);
+                current = next;
+            }
+        }
+        merged.add(current);
+        return merged;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+}
@@ -0,0 +1,59 @@
+package io.nncdevel.maven.spellcheck.text;
+
+import java.util.Arrays;
+
+/**
+ * Converts character offsets in a text to 1-based line and column numbers.
+ * Lines are terminated by {@code \n}, {@code \r\n} or {@code \r}.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public class LineIndex {
+
+    private final int[] lineStarts;
+
+    /**
+     * Creates a new line index for the given text.
+     *
+     * @param text the text
+     */
+    public LineIndex(CharSequence text) {
+        int[] starts = new int[16];
+        int count = 1;
+        int length = text.length();
+
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c == '\n' || (c == '\r' && (i + 1 >= length || text.charAt(i + 1) != '\n'))) {
+                if (count == starts.length) {
+                    starts = Arrays.copyOf(starts, count * 2);
+                }
+                starts[count++] = i + 1;
+            }
+        }
+
+        this.lineStarts = Arrays.copyOf(starts, count);
+    }
+
+    /**
+     * Gets the line number of an offset.
+     *
+     * @param offset the character offset
+     * @return the line number (1-based)
+     */
+    public int getLine(int offset) {
+        int index = Arrays.binarySearch(lineStarts, offset);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    /**
+     * Gets the column number of an offset.
+     *
+     * @param offset the character offset
+     * @return the column number (1-based)
+     */
+    public int getColumn(int offset) {
+        return offset - lineStarts[getLine(offset) - 1] + 1;
+    }
+}
@@ -0,0 +1,93 @@
+package io.nncdevel.maven.spellcheck.text;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits text into paragraphs separated by blank lines. A blank line always
+ * ends a sentence, so paragraphs can be checked independently of each other.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public final class ParagraphSplitter {
+
+    private ParagraphSplitter() {
+    }
+
+    /**
+     * Finds the paragraphs of a range of a text.
+     *
+     * @param text  the text
+     * @param range the range to split; it should start at the beginning of a line
+     * @return the paragraphs, without the surrounding blank lines
+     */
+    public static List<TextRange> findParagraphs(CharSequence text, TextRange range) {
+        List<TextRange> result = new ArrayList<>();
+        int paragraphStart = -1;
+        int paragraphEnd = -1;
+        int lineStart = range.getStart();
+
+        while (lineStart < range.getEnd()) {
+            int lineEnd = lineStart;
+            boolean blank = true;
+            while (lineEnd < range.getEnd() && text.charAt(lineEnd) != '\n') {
+                if (!Character.isWhitespace(text.charAt(lineEnd))) {
+                    blank = false;
+                }
+                lineEnd++;
+            }
+            int next = Math.min(range.getEnd(), lineEnd + 1);
+
+            if (blank) {
+                if (paragraphStart >= 0) {
+                    result.add(new TextRange(paragraphStart, paragraphEnd));
+                    paragraphStart = -1;
+                }
+            } else {
+                if (paragraphStart < 0) {
+                    paragraphStart = lineStart;
+                }
+                paragraphEnd = next;
+            }
+            lineStart = next;
+        }
+        if (paragraphStart >= 0) {
+            result.add(new TextRange(paragraphStart, paragraphEnd));
+        }
+
+        return result;
+    }
+
+    /**
+     * Splits a range of a text into segments of whole paragraphs. Consecutive
+     * paragraphs are grouped while the segment stays within the maximum
+     * length; a longer paragraph becomes a segment on its own.
+     *
+     * @param text      the text
+     * @param range     the range to split; it should start at the beginning of a line
+     * @param maxLength the preferred maximum length of a segment
+     * @return the segments, in order
+     */
+    public static List<TextRange> split(CharSequence text, TextRange range, int maxLength) {
+        List<TextRange> segments = new ArrayList<>();
+        int segmentStart = -1;
+        int segmentEnd = -1;
+
+        for (TextRange paragraph : findParagraphs(text, range)) {
+            if (segmentStart >= 0 && paragraph.getEnd() - segmentStart > maxLength) {
+                segments.add(new TextRange(segmentStart, segmentEnd));
+                segmentStart = -1;
+            }
+            if (segmentStart < 0) {
+                segmentStart = paragraph.getStart();
+            }
+            segmentEnd = paragraph.getEnd();
+        }
+        if (segmentStart >= 0) {
+            segments.add(new TextRange(segmentStart, segmentEnd));
+        }
+
+        return segments;
+    }
+}
@@ -0,0 +1,132 @@
+package io.nncdevel.maven.spellcheck.text;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Selects the regions of a text that match any of a set of regular
+ * expressions, such as comments and string literals, so that only those
+ * regions are checked. The patterns are compiled once, and the selector is
+ * safe for concurrent use.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public final class RegionSelector {
+
+    private final List<Pattern> patterns;
+
+    /**
+     * Creates a new selector.
+     *
+     * @param patterns the compiled patterns of the regions to select
+     */
+    public RegionSelector(Collection<Pattern> patterns) {
+        this.patterns = new ArrayList<>(patterns);
+    }
+
+    /**
+     * Finds the regions of a text that match a pattern. Overlapping and
+     * adjacent matches are merged.
+     *
+     * @param text the text
+     * @return the regions, in order
+     */
+    public List<TextRange> select(CharSequence text) {
+        TreeMap<Integer, Integer> matches = new TreeMap<>();
+        for (Pattern pattern : patterns) {
+            Matcher matcher = pattern.matcher(text);
+            while (matcher.find()) {
+                if (matcher.end() > matcher.start()) {
+                    matches.merge(matcher.start(), matcher.end(), Math::max);
+                }
+            }
+        }
+
+        List<TextRange> regions = new ArrayList<>();
+        int start = -1;
+        int end = -1;
+        for (Map.Entry<Integer, Integer> match : matches.entrySet()) {
+            if (match.getKey() > end) {
+                if (start >= 0) {
+                    regions.add(new TextRange(start, end));
+                }
+                start = match.getKey();
+            }
+            end = Math.max(end, match.getValue());
+        }
+        if (start >= 0) {
+            regions.add(new TextRange(start, end));
+        }
+        return regions;
+    }
+
+    /**
+     * Blanks every part of a text outside the given regions. Line breaks
+     * are kept, so offsets, lines and columns stay those of the text.
+     *
+     * @param text    the text
+     * @param regions the regions to keep, in order
+     * @return the masked text
+     */
+    public static String maskOutside(String text, List<TextRange> regions) {
+        char[] masked = text.toCharArray();
+        int position = 0;
+        for (TextRange region : regions) {
+            blank(masked, position, region.getStart());
+            position = region.getEnd();
+        }
+        blank(masked, position, masked.length);
+        return new String(masked);
+    }
+
+    /**
+     * Intersects two lists of ordered, non-overlapping ranges.
+     *
+     * @param first  the first ranges
+     * @param second the second ranges
+     * @return the ranges covered by both lists, in order
+     */
+    public static List<TextRange> intersect(List<TextRange> first, List<TextRange> second) {
+        List<TextRange> result = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < first.size() && j < second.size()) {
+            TextRange a = first.get(i);
+            TextRange b = second.get(j);
+            int start = Math.max(a.getStart(), b.getStart());
+            int end = Math.min(a.getEnd(), b.getEnd());
+            if (start < end) {
+                result.add(new TextRange(start, end));
+            }
+            if (a.getEnd() <= b.getEnd()) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the number of patterns.
+     *
+     * @return the pattern count
+     */
+    public int size() {
+        return patterns.size();
+    }
+
+    private static void blank(char[] text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (text[i] != '\n' && text[i] != '\r') {
+                text[i] = ' ';
+            }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package io.nncdevel.maven.spellcheck.text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds words of a vocabulary within a small edit distance of a misspelled
+ * word, using the symmetric delete algorithm: every word is indexed under
+ * all strings obtained by deleting up to {@code maxDistance} characters,
+ * and a lookup generates the deletes of the misspelled word and looks them
+ * up directly. No candidate word is generated by insertions, substitutions
+ * or transpositions, so a lookup costs a few dozen hash lookups regardless
+ * of the vocabulary size. Matching ignores case.
+ * The index is safe for concurrent lookups once it has been built.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public class SuggestionIndex {
+
+    /**
+     * Words of up to this length are matched within distance one only,
+     * because two edits change them too much to be a useful suggestion.
+     */
+    private static final int SHORT_WORD_LENGTH = 4;
+
+    private final int maxDistance;
+    private final List<String> words = new ArrayList<>();
+    private final List<String> keys = new ArrayList<>();
+    private final Map<String, int[]> deletes = new HashMap<>();
+
+    /**
+     * Builds an index.
+     *
+     * @param vocabulary  the words to suggest, in their preferred spelling
+     * @param maxDistance the maximum edit distance of a suggestion
+     */
+    public SuggestionIndex(Collection<String> vocabulary, int maxDistance) {
+        this.maxDistance = maxDistance;
+
+        Map<String, String> unique = new LinkedHashMap<>();
+        for (String word : vocabulary) {
+            unique.putIfAbsent(word.toLowerCase(Locale.ROOT), word);
+        }
+        for (Map.Entry<String, String> entry : unique.entrySet()) {
+            int index = words.size();
+            words.add(entry.getValue());
+            keys.add(entry.getKey());
+            for (String delete : getDeletes(entry.getKey(), maxDistance)) {
+                int[] indexes = deletes.get(delete);
+                if (indexes == null) {
+                    deletes.put(delete, new int[] {index});
+                } else {
+                    indexes = Arrays.copyOf(indexes, indexes.length + 1);
+                    indexes[indexes.length - 1] = index;
+                    deletes.put(delete, indexes);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the number of indexed words.
+     *
+     * @return the word count
+     */
+    public int size() {
+        return words.size();
+    }
+
+    /**
+     * Finds the vocabulary words closest to a misspelled word. The word
+     * itself is never suggested. If the misspelled word is capitalized,
+     * lower-case suggestions are capitalized too.
+     *
+     * @param word  the misspelled word
+     * @param limit the maximum number of suggestions
+     * @return the suggestions, closest first and alphabetically within a distance
+     */
+    public List<String> suggest(String word, int limit) {
+        if (words.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        String key = word.toLowerCase(Locale.ROOT);
+        int distance = key.length() <= SHORT_WORD_LENGTH ? Math.min(1, maxDistance) : maxDistance;
+        List<int[]> candidates = new ArrayList<>();
+        Set<Integer> seen = new HashSet<>();
+        for (String delete : getDeletes(key, distance)) {
+            int[] indexes = deletes.get(delete);
+            if (indexes == null) {
+                continue;
+            }
+            for (int index : indexes) {
+                if (seen.add(index)) {
+                    int d = distance(key, keys.get(index), distance);
+                    if (d > 0 && d <= distance) {
+                        candidates.add(new int[] {d, index});
+                    }
+                }
+            }
+        }
+
+        candidates.sort((a, b) -> a[0] != b[0] ? Integer.compare(a[0], b[0]) : keys.get(a[1]).compareTo(keys.get(b[1])));
+        boolean capitalized = !word.isEmpty() && Character.isUpperCase(word.charAt(0));
+        List<String> result = new ArrayList<>(Math.min(limit, candidates.size()));
+        for (int i = 0; i < candidates.size() && result.size() < limit; i++) {
+            String suggestion = words.get(candidates.get(i)[1]);
+            if (capitalized && Character.isLowerCase(suggestion.charAt(0))) {
+                suggestion = Character.toUpperCase(suggestion.charAt(0)) + suggestion.substring(1);
+            }
+            result.add(suggestion);
+        }
+        return result;
+    }
+
+    /**
+     * Generates a word and all strings obtained by deleting up to a number of its characters.
+     *
+     * @param word     the word
+     * @param distance the maximum number of deleted characters
+     * @return the deletes, including the word itself
+     */
+    static Set<String> getDeletes(String word, int distance) {
+        Set<String> result = new HashSet<>();
+        result.add(word);
+        List<String> current = new ArrayList<>();
+        current.add(word);
+        for (int d = 0; d < distance; d++) {
+            List<String> next = new ArrayList<>();
+            for (String text : current) {
+                for (int i = 0; i < text.length(); i++) {
+                    String delete = text.substring(0, i) + text.substring(i + 1);
+                    if (result.add(delete)) {
+                        next.add(delete);
+                    }
+                }
+            }
+            current = next;
+        }
+        return result;
+    }
+
+    /**
+     * Computes the optimal string alignment distance, which counts
+     * insertions, deletions, substitutions and transpositions of adjacent characters.
+     *
+     * @param a   the first string
+     * @param b   the second string
+     * @param max the distance beyond which the exact value is not needed
+     * @return the distance, or {@code max + 1} if it exceeds {@code max}
+     */
+    static int distance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+
+        int[] previous2 = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] rotated = previous2;
+            previous2 = previous;
+            previous = current;
+            current = rotated;
+        }
+        return Math.min(previous[b.length()], max + 1);
+    }
+}
@@ -0,0 +1,103 @@
+package io.nncdevel.maven.spellcheck.text;
+
+import java.util.Arrays;
+
+/**
+ * Joins ranges of several source texts into a single text so that they can
+ * be checked in one engine call, and maps offsets in the joined text back
+ * to the source they came from. Segments are separated by blank lines,
+ * which end sentences and paragraphs, so no word or sentence spans two segments.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public class TextBatch {
+
+    /**
+     * The separator inserted between two segments.
+     */
+    static final String SEPARATOR = "\n\n";
+
+    private final StringBuilder text = new StringBuilder();
+    private String singleSource;
+    private int[] batchStarts = new int[8];
+    private int[] sourceStarts = new int[8];
+    private int[] owners = new int[8];
+    private int size;
+
+    /**
+     * Appends a range of a source text as a new segment.
+     *
+     * @param owner  an identifier of the source, such as its index in a list of files
+     * @param source the source text
+     * @param range  the range of the source text to append
+     */
+    public void add(int owner, String source, TextRange range) {
+        if (size == batchStarts.length) {
+            batchStarts = Arrays.copyOf(batchStarts, size * 2);
+            sourceStarts = Arrays.copyOf(sourceStarts, size * 2);
+            owners = Arrays.copyOf(owners, size * 2);
+        }
+
+        // A single whole source is the common case and is checked without copying
+        singleSource = size == 0 && range.length() == source.length() ? source : null;
+        if (size > 0) {
+            text.append(SEPARATOR);
+        }
+        batchStarts[size] = text.length();
+        sourceStarts[size] = range.getStart();
+        owners[size] = owner;
+        text.append(source, range.getStart(), range.getEnd());
+        size++;
+    }
+
+    /**
+     * Gets the number of segments.
+     *
+     * @return the segment count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the joined text.
+     *
+     * @return the text of all segments
+     */
+    public String getText() {
+        return size == 1 && singleSource != null ? singleSource : text.toString();
+    }
+
+    /**
+     * Finds the segment containing an offset of the joined text.
+     *
+     * @param offset the offset in the joined text
+     * @return the segment index
+     */
+    public int getSegment(int offset) {
+        int index = Arrays.binarySearch(batchStarts, 0, size, offset);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    /**
+     * Gets the owner of a segment.
+     *
+     * @param segment the segment index
+     * @return the owner passed to {@link #add(int, String, TextRange)}
+     */
+    public int getOwner(int segment) {
+        return owners[segment];
+    }
+
+    /**
+     * Converts an offset of the joined text to an offset of the segment's source text.
+     *
+     * @param segment the segment index
+     * @param offset  the offset in the joined text
+     * @return the offset in the source text
+     */
+    public int toSourceOffset(int segment, int offset) {
+        return sourceStarts[segment] + offset - batchStarts[segment];
+    }
+}
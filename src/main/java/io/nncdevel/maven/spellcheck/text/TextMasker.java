@@ -0,0 +1,114 @@
+package io.nncdevel.maven.spellcheck.text;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Blanks the parts of a text that match any of a set of regular
+ * expressions, so that they are not checked. Matched characters are
+ * replaced by spaces and line breaks are kept, so offsets, lines and
+ * columns in the masked text are those of the original text.
+ * <p>
+ * The expressions are compiled once, and the masker is safe for
+ * concurrent use.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public final class TextMasker {
+
+    private final List<Pattern> patterns;
+
+    /**
+     * Creates a new masker.
+     *
+     * @param patterns the compiled patterns of the text to blank
+     */
+    public TextMasker(Collection<Pattern> patterns) {
+        this.patterns = new ArrayList<>(patterns);
+    }
+
+    /**
+     * Compiles a regular expression in the JavaScript literal form used by
+     * CSpell, such as {@code /0x[0-9a-f]+/gi}. The flags {@code i},
+     * {@code m}, {@code s} and {@code x} are supported, and {@code g},
+     * {@code u} and {@code y} are ignored because every match is blanked
+     * anyway. An expression that is not enclosed in slashes is compiled as is.
+     *
+     * @param expression the regular expression
+     * @return the compiled pattern
+     * @throws java.util.regex.PatternSyntaxException if the expression is invalid
+     */
+    public static Pattern compile(String expression) {
+        int end = expression.lastIndexOf('/');
+        if (expression.length() < 2 || expression.charAt(0) != '/' || end == 0) {
+            return Pattern.compile(expression);
+        }
+
+        int flags = 0;
+        for (int i = end + 1; i < expression.length(); i++) {
+            switch (expression.charAt(i)) {
+                case 'i':
+                    flags |= Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+                    break;
+                case 'm':
+                    flags |= Pattern.MULTILINE;
+                    break;
+                case 's':
+                    flags |= Pattern.DOTALL;
+                    break;
+                case 'x':
+                    flags |= Pattern.COMMENTS;
+                    break;
+                case 'g':
+                case 'u':
+                case 'y':
+                    break;
+                default:
+                    // Not a flag, so the slashes are part of a plain expression
+                    return Pattern.compile(expression);
+            }
+        }
+        return Pattern.compile(expression.substring(1, end), flags);
+    }
+
+    /**
+     * Blanks every part of a text that matches a pattern.
+     *
+     * @param text the text
+     * @return the masked text, or the text itself if nothing matches
+     */
+    public String mask(String text) {
+        char[] masked = null;
+        for (Pattern pattern : patterns) {
+            Matcher matcher = pattern.matcher(text);
+            while (matcher.find()) {
+                if (masked == null) {
+                    masked = text.toCharArray();
+                }
+                blank(masked, matcher.start(), matcher.end());
+            }
+        }
+        return masked != null ? new String(masked) : text;
+    }
+
+    /**
+     * Gets the number of patterns.
+     *
+     * @return the pattern count
+     */
+    public int size() {
+        return patterns.size();
+    }
+
+    private static void blank(char[] text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (text[i] != '\n' && text[i] != '\r') {
+                text[i] = ' ';
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package io.nncdevel.maven.spellcheck.text;
+
+/**
+ * A range of characters in a text.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public class TextRange {
+
+    private final int start;
+    private final int end;
+
+    /**
+     * Creates a new text range.
+     *
+     * @param start the start offset
+     * @param end   the end offset (exclusive)
+     */
+    public TextRange(int start, int end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Gets the start offset.
+     *
+     * @return the start offset
+     */
+    public int getStart() {
+        return start;
+    }
+
+    /**
+     * Gets the end offset (exclusive).
+     *
+     * @return the end offset
+     */
+    public int getEnd() {
+        return end;
+    }
+
+    /**
+     * Gets the number of characters in the range.
+     *
+     * @return the length
+     */
+    public int length() {
+        return end - start;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TextRange)) {
+            return false;
+        }
+        TextRange other = (TextRange) o;
+        return start == other.start && end == other.end;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * start + end;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + start + ", " + end + ")";
+    }
+}
@@ -0,0 +1,66 @@
+package io.nncdevel.maven.spellcheck.text;
+
+/**
+ * The classes of machine-generated tokens that are blanked before text is checked.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public enum TokenClass {
+
+    /**
+     * URLs with a scheme, such as {@code https://example.com/path}, and URLs starting with {@code www.}.
+     */
+    URL("url"),
+
+    /**
+     * Email addresses.
+     */
+    EMAIL("email"),
+
+    /**
+     * UUIDs in the canonical 8-4-4-4-12 hexadecimal form.
+     */
+    UUID("uuid"),
+
+    /**
+     * Hexadecimal hashes of at least 7 digits that mix digits and letters, such as Git commit IDs.
+     */
+    HASH("hash"),
+
+    /**
+     * Base64 strings of at least 20 characters that mix digits, upper-case and lower-case letters,
+     * are padded or a multiple of 4 characters long, and do not read like paths or identifiers.
+     */
+    BASE64("base64");
+
+    private final String name;
+
+    TokenClass(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the configuration name of the token class.
+     *
+     * @return the token class name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Finds the token class with the given configuration name.
+     *
+     * @param name the token class name, case-insensitive
+     * @return the token class, or null if the name is unknown
+     */
+    public static TokenClass fromName(String name) {
+        for (TokenClass tokenClass : values()) {
+            if (tokenClass.name.equalsIgnoreCase(name)) {
+                return tokenClass;
+            }
+        }
+        return null;
+    }
+}
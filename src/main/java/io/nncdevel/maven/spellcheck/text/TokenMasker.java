@@ -0,0 +1,318 @@
+package io.nncdevel.maven.spellcheck.text;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Blanks URLs, email addresses, UUIDs, hashes and base64 strings in a text
+ * before it is checked. They are never words, yet the engine spends time
+ * on them and often reports them as misspellings.
+ * <p>
+ * The text is classified in a single pass without regular expressions.
+ * Masked characters are replaced by spaces, so offsets, lines and columns
+ * in the masked text are those of the original text. The masker is safe
+ * for concurrent use and counts the characters it has blanked.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public final class TokenMasker {
+
+    private static final int MIN_HASH_LENGTH = 7;
+    private static final int MIN_BASE64_LENGTH = 20;
+
+    /**
+     * Lower-case runs at least this long are counted as words.
+     */
+    private static final int MIN_WORD_RUN = 3;
+
+    /**
+     * The largest share of characters in lower-case words that a base64
+     * string may have. Random base64 has about 15 percent, identifiers and
+     * paths made of words have more than half.
+     */
+    private static final double MAX_BASE64_WORD_SHARE = 0.4;
+    private static final int UUID_LENGTH = 36;
+
+    /**
+     * Characters that end a URL, besides whitespace.
+     */
+    private static final String URL_DELIMITERS = "\"'`<>";
+
+    /**
+     * Characters that are trimmed from the end of a URL, because they
+     * usually belong to the surrounding sentence or markup.
+     */
+    private static final String URL_TRAILING = ".,;:!?)]}*";
+
+    private final Set<TokenClass> tokenClasses;
+    private final LongAdder maskedCharacters = new LongAdder();
+
+    /**
+     * Creates a new masker.
+     *
+     * @param tokenClasses the classes of tokens to blank
+     */
+    public TokenMasker(Collection<TokenClass> tokenClasses) {
+        this.tokenClasses = tokenClasses.isEmpty()
+            ? EnumSet.noneOf(TokenClass.class) : EnumSet.copyOf(tokenClasses);
+    }
+
+    /**
+     * Blanks every token of the enabled classes in a text.
+     *
+     * @param text the text
+     * @return the masked text, or the text itself if nothing was blanked
+     */
+    public String mask(String text) {
+        char[] chars = text.toCharArray();
+        int masked = 0;
+        int length = chars.length;
+        int i = 0;
+
+        while (i < length) {
+            char c = chars[i];
+            if (c == ':' && tokenClasses.contains(TokenClass.URL) && isSchemeSeparator(chars, i)) {
+                int start = findSchemeStart(chars, i);
+                if (start >= 0) {
+                    int end = findUrlEnd(chars, i + 3);
+                    masked += blank(chars, start, end);
+                    i = Math.max(end, i + 1);
+                    continue;
+                }
+            } else if (c == '@' && tokenClasses.contains(TokenClass.EMAIL)) {
+                int start = findLocalPartStart(chars, i);
+                int end = findDomainEnd(chars, i + 1);
+                if (start < i && end > 0) {
+                    masked += blank(chars, start, end);
+                    i = end;
+                    continue;
+                }
+            } else if (isAsciiLetterOrDigit(c) && (i == 0 || !isAsciiLetterOrDigit(chars[i - 1]))) {
+                int end = findTokenEnd(chars, i);
+                if (end > i) {
+                    masked += blank(chars, i, end);
+                    i = end;
+                    continue;
+                }
+                // Skip the rest of the word, which cannot start a token
+                while (i < length && isAsciiLetterOrDigit(chars[i])) {
+                    i++;
+                }
+                continue;
+            }
+            i++;
+        }
+
+        if (masked == 0) {
+            return text;
+        }
+        maskedCharacters.add(masked);
+        return new String(chars);
+    }
+
+    /**
+     * Gets the number of characters blanked since the masker was created.
+     *
+     * @return the masked character count
+     */
+    public long getMaskedCharacterCount() {
+        return maskedCharacters.sum();
+    }
+
+    /**
+     * Finds the end of a URL starting with {@code www.}, a UUID, a hash or
+     * a base64 string that starts at the beginning of a word.
+     *
+     * @param chars the text
+     * @param start the start of the word
+     * @return the end of the token, or the start if no token starts there
+     */
+    private int findTokenEnd(char[] chars, int start) {
+        if (tokenClasses.contains(TokenClass.URL) && regionMatchesIgnoreCase(chars, start, "www.")
+            && start + 4 < chars.length && isAsciiLetterOrDigit(chars[start + 4])) {
+            return findUrlEnd(chars, start);
+        }
+        if (tokenClasses.contains(TokenClass.UUID) && isUuid(chars, start)) {
+            return start + UUID_LENGTH;
+        }
+
+        int wordEnd = start;
+        boolean digit = false;
+        boolean letter = false;
+        boolean hex = true;
+        while (wordEnd < chars.length && isAsciiLetterOrDigit(chars[wordEnd])) {
+            char c = chars[wordEnd];
+            digit |= c <= '9';
+            letter |= c > '9';
+            hex &= isHexDigit(c);
+            wordEnd++;
+        }
+        if (tokenClasses.contains(TokenClass.HASH) && hex && digit && letter
+            && wordEnd - start >= MIN_HASH_LENGTH) {
+            return wordEnd;
+        }
+
+        if (tokenClasses.contains(TokenClass.BASE64)) {
+            int end = start;
+            boolean upper = false;
+            boolean lower = false;
+            digit = false;
+            while (end < chars.length && (isAsciiLetterOrDigit(chars[end]) || chars[end] == '+' || chars[end] == '/')) {
+                char c = chars[end];
+                digit |= c >= '0' && c <= '9';
+                upper |= c >= 'A' && c <= 'Z';
+                lower |= c >= 'a' && c <= 'z';
+                end++;
+            }
+            int padding = 0;
+            while (padding < 2 && end < chars.length && chars[end] == '=') {
+                padding++;
+                end++;
+            }
+            if (digit && upper && lower && end - start >= MIN_BASE64_LENGTH
+                && (padding > 0 || (end - start) % 4 == 0) && !isMadeOfWords(chars, start, end)) {
+                return end;
+            }
+        }
+        return start;
+    }
+
+    /**
+     * Checks whether a candidate base64 string reads like file paths or
+     * identifiers, such as {@code src/main/java/Foo2Bar} or
+     * {@code parseHttp2ResponseHeaders}, whose characters mostly belong to
+     * lower-case words, rather than like encoded data.
+     */
+    private static boolean isMadeOfWords(char[] chars, int start, int end) {
+        int wordChars = 0;
+        int run = 0;
+        for (int i = start; i <= end; i++) {
+            if (i < end && chars[i] >= 'a' && chars[i] <= 'z') {
+                run++;
+                continue;
+            }
+            if (run >= MIN_WORD_RUN) {
+                wordChars += run;
+            }
+            run = 0;
+        }
+        return wordChars > (end - start) * MAX_BASE64_WORD_SHARE;
+    }
+
+    private static boolean isSchemeSeparator(char[] chars, int colon) {
+        return colon + 3 < chars.length && chars[colon + 1] == '/' && chars[colon + 2] == '/'
+            && !Character.isWhitespace(chars[colon + 3]);
+    }
+
+    private static int findSchemeStart(char[] chars, int colon) {
+        int start = colon;
+        while (start > 0 && (isAsciiLetterOrDigit(chars[start - 1])
+            || chars[start - 1] == '+' || chars[start - 1] == '-' || chars[start - 1] == '.')) {
+            start--;
+        }
+        while (start < colon && !isAsciiLetter(chars[start])) {
+            start++;
+        }
+        return start < colon ? start : -1;
+    }
+
+    private static int findUrlEnd(char[] chars, int start) {
+        int end = start;
+        while (end < chars.length && !Character.isWhitespace(chars[end]) && URL_DELIMITERS.indexOf(chars[end]) < 0) {
+            end++;
+        }
+        while (end > start && URL_TRAILING.indexOf(chars[end - 1]) >= 0) {
+            end--;
+        }
+        return end;
+    }
+
+    private static int findLocalPartStart(char[] chars, int at) {
+        int start = at;
+        while (start > 0 && (isAsciiLetterOrDigit(chars[start - 1]) || ".%+-_".indexOf(chars[start - 1]) >= 0)) {
+            start--;
+        }
+        return start;
+    }
+
+    /**
+     * Finds the end of the domain of an email address.
+     *
+     * @param chars the text
+     * @param start the first character after the {@code @}
+     * @return the end of the domain, or -1 if there is no domain with a dot
+     */
+    private static int findDomainEnd(char[] chars, int start) {
+        int end = start;
+        int lastDot = -1;
+        while (end < chars.length && (isAsciiLetterOrDigit(chars[end]) || chars[end] == '-' || chars[end] == '.')) {
+            if (chars[end] == '.') {
+                lastDot = end;
+            }
+            end++;
+        }
+        if (end > start && chars[end - 1] == '.') {
+            end--;
+            lastDot = -1;
+            for (int i = start; i < end; i++) {
+                if (chars[i] == '.') {
+                    lastDot = i;
+                }
+            }
+        }
+        return lastDot > start && lastDot < end - 1 ? end : -1;
+    }
+
+    private static boolean isUuid(char[] chars, int start) {
+        int end = start + UUID_LENGTH;
+        if (end > chars.length || (end < chars.length && isAsciiLetterOrDigit(chars[end]))) {
+            return false;
+        }
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            char c = chars[start + i];
+            boolean dash = i == 8 || i == 13 || i == 18 || i == 23;
+            if (dash ? c != '-' : !isHexDigit(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean regionMatchesIgnoreCase(char[] chars, int start, String prefix) {
+        if (start + prefix.length() > chars.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (Character.toLowerCase(chars[start + i]) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int blank(char[] chars, int start, int end) {
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            if (!Character.isWhitespace(chars[i])) {
+                chars[i] = ' ';
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean isHexDigit(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return isAsciiLetter(c) || (c >= '0' && c <= '9');
+    }
+}
@@ -0,0 +1,219 @@
+package io.nncdevel.maven.spellcheck.text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A compact, read-only set of words that is probed directly against a
+ * range of a larger text, so lookups allocate nothing. All words are kept
+ * in a single character array and found through an open-addressing hash
+ * table of word indexes.
+ * <p>
+ * A case-insensitive set folds words to lower case character by character,
+ * both when it is built and while it is probed. A case-sensitive set only
+ * matches words with their exact case, except that a word that starts with
+ * a lower-case letter also matches when capitalized, such as at the start
+ * of a sentence. The set is safe for concurrent lookups.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public final class WordSet {
+
+    private static final WordSet EMPTY = new WordSet(Collections.emptyList(), false);
+
+    private final boolean caseSensitive;
+    private final char[] chars;
+    private final int[] starts;
+    private final int[] table;
+    private final int mask;
+    private final int size;
+    private final int maxLength;
+
+    /**
+     * Creates a new set.
+     *
+     * @param words         the words
+     * @param caseSensitive true to match words only with their case
+     */
+    public WordSet(Collection<String> words, boolean caseSensitive) {
+        this.caseSensitive = caseSensitive;
+
+        int capacity = Integer.highestOneBit(Math.max(4, words.size() * 2 - 1)) << 1;
+        int totalLength = 0;
+        for (String word : words) {
+            totalLength += word.length();
+        }
+        char[] pool = new char[totalLength];
+        int[] wordStarts = new int[words.size() + 1];
+        int[] slots = new int[capacity];
+        int count = 0;
+        int length = 0;
+        int longest = 0;
+
+        for (String word : words) {
+            if (word.isEmpty() || contains(pool, wordStarts, slots, capacity - 1, word, 0, word.length(), !caseSensitive)) {
+                continue;
+            }
+            for (int i = 0; i < word.length(); i++) {
+                char c = word.charAt(i);
+                pool[length + i] = caseSensitive ? c : Character.toLowerCase(c);
+            }
+            wordStarts[count] = length;
+            length += word.length();
+            wordStarts[count + 1] = length;
+
+            int slot = hash(word, 0, word.length(), !caseSensitive) & (capacity - 1);
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            slots[slot] = ++count;
+            longest = Math.max(longest, word.length());
+        }
+
+        this.chars = length == pool.length ? pool : Arrays.copyOf(pool, length);
+        this.starts = Arrays.copyOf(wordStarts, count + 1);
+        this.table = slots;
+        this.mask = capacity - 1;
+        this.size = count;
+        this.maxLength = longest;
+    }
+
+    /**
+     * Gets an empty case-insensitive set.
+     *
+     * @return the empty set
+     */
+    public static WordSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Checks whether a word is in the set.
+     *
+     * @param word the word
+     * @return true if the set contains the word
+     */
+    public boolean contains(CharSequence word) {
+        return contains(word, 0, word.length());
+    }
+
+    /**
+     * Checks whether a range of a text is a word of the set.
+     *
+     * @param text  the text
+     * @param start the start offset of the word
+     * @param end   the end offset (exclusive) of the word
+     * @return true if the set contains the word
+     */
+    public boolean contains(CharSequence text, int start, int end) {
+        if (end - start > maxLength || start == end) {
+            return false;
+        }
+        if (!caseSensitive) {
+            return contains(chars, starts, table, mask, text, start, end, true);
+        }
+        if (contains(chars, starts, table, mask, text, start, end, false)) {
+            return true;
+        }
+        // A lower-case word also matches when capitalized
+        return Character.isUpperCase(text.charAt(start)) && containsDecapitalized(text, start, end);
+    }
+
+    private boolean containsDecapitalized(CharSequence text, int start, int end) {
+        int hash = 1;
+        hash = 31 * hash + Character.toLowerCase(text.charAt(start));
+        for (int i = start + 1; i < end; i++) {
+            hash = 31 * hash + text.charAt(i);
+        }
+        for (int slot = mix(hash) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int index = table[slot] - 1;
+            int wordStart = starts[index];
+            if (starts[index + 1] - wordStart == end - start
+                && chars[wordStart] == Character.toLowerCase(text.charAt(start))
+                && regionMatches(chars, wordStart + 1, text, start + 1, end, false)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean contains(char[] chars, int[] starts, int[] table, int mask,
+                                    CharSequence text, int start, int end, boolean fold) {
+        for (int slot = hash(text, start, end, fold) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int index = table[slot] - 1;
+            if (starts[index + 1] - starts[index] == end - start
+                && regionMatches(chars, starts[index], text, start, end, fold)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean regionMatches(char[] chars, int offset, CharSequence text, int start, int end, boolean fold) {
+        for (int i = start; i < end; i++, offset++) {
+            char c = text.charAt(i);
+            if (chars[offset] != (fold ? Character.toLowerCase(c) : c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(CharSequence text, int start, int end, boolean fold) {
+        int hash = 1;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            hash = 31 * hash + (fold ? Character.toLowerCase(c) : c);
+        }
+        return mix(hash);
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Checks whether the set matches words only with their case.
+     *
+     * @return true if the set is case-sensitive
+     */
+    public boolean isCaseSensitive() {
+        return caseSensitive;
+    }
+
+    /**
+     * Gets the number of words.
+     *
+     * @return the word count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the length of the longest word.
+     *
+     * @return the maximum word length
+     */
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Gets the words as stored: in lower case for a case-insensitive set,
+     * and with their case otherwise.
+     *
+     * @return the words, in the order they were added
+     */
+    public List<String> toList() {
+        List<String> words = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            words.add(new String(chars, starts[i], starts[i + 1] - starts[i]));
+        }
+        return words;
+    }
+}
@@ -0,0 +1,109 @@
+package io.nncdevel.maven.spellcheck.text;
+
+/**
+ * Splits text into candidate words for dictionary lookups.
+ * A word is a run of letters that may contain apostrophes between letters.
+ * Like LanguageTool, underscores separate words, and runs that contain
+ * digits are treated as identifiers or numbers and skipped, as are single letters.
+ *
+ * <pre>
+ * WordTokenizer words = new WordTokenizer(text);
+ * while (words.next()) {
+ *     String word = text.substring(words.start(), words.end());
+ * }
+ * </pre>
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public class WordTokenizer {
+
+    private final CharSequence text;
+    private final int limit;
+    private int position;
+    private int wordStart = -1;
+    private int wordEnd = -1;
+
+    /**
+     * Creates a tokenizer for a whole text.
+     *
+     * @param text the text to tokenize
+     */
+    public WordTokenizer(CharSequence text) {
+        this(text, 0, text.length());
+    }
+
+    /**
+     * Creates a tokenizer for a range of a text.
+     *
+     * @param text  the text to tokenize
+     * @param start the start offset of the range
+     * @param end   the end offset (exclusive) of the range
+     */
+    public WordTokenizer(CharSequence text, int start, int end) {
+        this.text = text;
+        this.position = start;
+        this.limit = end;
+    }
+
+    /**
+     * Advances to the next word.
+     *
+     * @return true if a word was found, false at the end of the range
+     */
+    public boolean next() {
+        while (position < limit) {
+            if (!Character.isLetterOrDigit(text.charAt(position))) {
+                position++;
+                continue;
+            }
+
+            int start = position;
+            boolean identifier = false;
+            while (position < limit) {
+                char c = text.charAt(position);
+                if (Character.isLetter(c)) {
+                    position++;
+                } else if (Character.isDigit(c)) {
+                    identifier = true;
+                    position++;
+                } else if (isApostrophe(c) && position > start && position + 1 < limit
+                           && Character.isLetter(text.charAt(position - 1))
+                           && Character.isLetter(text.charAt(position + 1))) {
+                    position++;
+                } else {
+                    break;
+                }
+            }
+
+            if (!identifier && position - start > 1) {
+                wordStart = start;
+                wordEnd = position;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the start offset of the current word.
+     *
+     * @return the start offset
+     */
+    public int start() {
+        return wordStart;
+    }
+
+    /**
+     * Gets the end offset (exclusive) of the current word.
+     *
+     * @return the end offset
+     */
+    public int end() {
+        return wordEnd;
+    }
+
+    private static boolean isApostrophe(char c) {
+        return c == '\'' || c == '’';
+    }
+}
@@ -0,0 +1,52 @@
+package io.nncdevel.maven.spellcheck;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for BackgroundFileSource.
+ *
+ * @author T. Izuno
+ */
+public class BackgroundFileSourceTest {
+
+    @Test
+    public void testReplaysDiscoveredFilesInOrder() throws IOException {
+        List<File> expected = Arrays.asList(new File("a.txt"), new File("b.txt"), new File("c.txt"));
+        List<File> actual = new ArrayList<>();
+
+        try (BackgroundFileSource source = new BackgroundFileSource(consumer -> {
+            for (File file : expected) {
+                consumer.accept(file);
+            }
+        })) {
+            source.forEachFile(actual::add);
+        }
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testDiscoveryFailureIsRethrown() {
+        List<File> actual = new ArrayList<>();
+
+        try (BackgroundFileSource source = new BackgroundFileSource(consumer -> {
+            consumer.accept(new File("a.txt"));
+            throw new IOException("walk failed");
+        })) {
+            source.forEachFile(actual::add);
+            fail("Expected IOException");
+        } catch (IOException e) {
+            assertEquals("walk failed", e.getMessage());
+        }
+
+        assertEquals(Arrays.asList(new File("a.txt")), actual);
+    }
+}
@@ -0,0 +1,39 @@
+package io.nncdevel.maven.spellcheck;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for FileWatchdog.
+ *
+ * @author T. Izuno
+ */
+public class FileWatchdogTest {
+
+    @Test
+    public void testTicketExpiresAfterTimeLimit() throws InterruptedException {
+        try (FileWatchdog watchdog = new FileWatchdog(50)) {
+            FileWatchdog.Ticket ticket = watchdog.start();
+
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (!ticket.isExpired() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertTrue(ticket.isExpired());
+            assertTrue(ticket.getAsBoolean());
+            ticket.close();
+        }
+    }
+
+    @Test
+    public void testClosedTicketNeverExpires() throws InterruptedException {
+        try (FileWatchdog watchdog = new FileWatchdog(50)) {
+            FileWatchdog.Ticket ticket = watchdog.start();
+            ticket.close();
+
+            Thread.sleep(200);
+            assertFalse(ticket.isExpired());
+        }
+    }
+}
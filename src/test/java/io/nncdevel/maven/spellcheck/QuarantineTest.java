@@ -0,0 +1,66 @@
+package io.nncdevel.maven.spellcheck;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for Quarantine.
+ *
+ * @author T. Izuno
+ */
+public class QuarantineTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testMissingFileIsEmpty() throws IOException {
+        Quarantine quarantine = Quarantine.load(new File(tempFolder.getRoot(), "quarantine.txt"));
+
+        assertEquals(0, quarantine.size());
+        assertFalse(quarantine.contains(new File("bundle.min.js")));
+    }
+
+    @Test
+    public void testAddedFilesAreWrittenAndReloaded() throws IOException {
+        File quarantineFile = new File(tempFolder.getRoot(), "spellcheck/quarantine.txt");
+        File bundle = new File(tempFolder.getRoot(), "bundle.min.js");
+
+        Quarantine quarantine = Quarantine.load(quarantineFile);
+        quarantine.add(bundle);
+        quarantine.add(new File(tempFolder.getRoot(), "./bundle.min.js"));
+
+        assertTrue(quarantine.contains(bundle));
+        List<String> lines = Files.readAllLines(quarantineFile.toPath(), StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).startsWith("#"));
+        assertEquals(bundle.getAbsolutePath(), lines.get(1));
+
+        Quarantine reloaded = Quarantine.load(quarantineFile);
+        assertEquals(1, reloaded.size());
+        assertTrue(reloaded.contains(bundle));
+        assertFalse(reloaded.contains(new File(tempFolder.getRoot(), "README.md")));
+    }
+
+    @Test
+    public void testCommentsAndBlankLinesAreIgnored() throws IOException {
+        File bundle = new File(tempFolder.getRoot(), "bundle.min.js");
+        File quarantineFile = tempFolder.newFile("quarantine.txt");
+        Files.write(quarantineFile.toPath(),
+            ("# skipped files\n\n  " + bundle.getAbsolutePath() + "  \n").getBytes(StandardCharsets.UTF_8));
+
+        Quarantine quarantine = Quarantine.load(quarantineFile);
+
+        assertEquals(1, quarantine.size());
+        assertTrue(quarantine.contains(bundle));
+    }
+}
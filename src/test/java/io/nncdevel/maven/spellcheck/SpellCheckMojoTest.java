@@ -1,11 +1,15 @@
 package io.nncdevel.maven.spellcheck;
 
+import io.nncdevel.maven.spellcheck.config.SpellCheckConfiguration;
 import org.apache.maven.plugin.testing.MojoRule;
 import org.apache.maven.plugin.testing.WithoutMojo;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 import static org.junit.Assert.*;
 
@@ -27,6 +31,9 @@ public class SpellCheckMojoTest {
         }
     };
 
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
     /**
      * Tests that the Mojo can be instantiated.
      */
@@ -49,4 +56,36 @@ public class SpellCheckMojoTest {
         // This is a basic test to ensure the test infrastructure is working
         // More comprehensive tests would require a proper test project setup
     }
+
+    /**
+     * Tests that the languages of the CSpell configuration are used unless
+     * the language parameter is set.
+     */
+    @Test
+    @WithoutMojo
+    public void testCSpellLanguagesUsedWithoutLanguageParameter() throws Exception {
+        File cspellFile = tempFolder.newFile("cspell.json");
+        Files.write(cspellFile.toPath(), "{\"language\": \"en,nl\"}".getBytes(StandardCharsets.UTF_8));
+        SpellCheckMojo mojo = new SpellCheckMojo();
+        rule.setVariableValueToObject(mojo, "useCSpellConfig", true);
+        rule.setVariableValueToObject(mojo, "cspellConfigFile", cspellFile);
+
+        assertEquals("en,nl", mojo.createConfiguration().getLanguage());
+
+        rule.setVariableValueToObject(mojo, "language", "en-GB");
+        assertEquals("en-GB", mojo.createConfiguration().getLanguage());
+    }
+
+    /**
+     * Tests that the language defaults to en-US without a CSpell configuration.
+     */
+    @Test
+    @WithoutMojo
+    public void testDefaultLanguage() throws Exception {
+        SpellCheckMojo mojo = new SpellCheckMojo();
+
+        SpellCheckConfiguration config = mojo.createConfiguration();
+
+        assertEquals("en-US", config.getLanguage());
+    }
 }
@@ -0,0 +1,620 @@
+package io.nncdevel.maven.spellcheck;
+
+import io.nncdevel.maven.spellcheck.config.CSpellConfig;
+import io.nncdevel.maven.spellcheck.config.CSpellConfigLoader;
+import io.nncdevel.maven.spellcheck.config.SpellCheckConfiguration;
+import io.nncdevel.maven.spellcheck.report.SpellCheckReport;
+import io.nncdevel.maven.spellcheck.report.SpellError;
+import org.apache.maven.plugin.logging.Log;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SpellChecker.
+ *
+ * @author T. Izuno
+ */
+public class SpellCheckerTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private Log log;
+
+    @Before
+    public void setUp() {
+        log = mock(Log.class);
+    }
+
+    @Test
+    public void testFindsSpellingErrors() throws IOException {
+        File file = createFile("sample.txt", "This sentence has a mistaek in it.\n");
+
+        SpellCheckReport report = new SpellChecker(createConfiguration(1), log).check(Arrays.asList(file));
+
+        assertEquals(1, report.getFilesChecked());
+        assertEquals(1, report.getErrorCount());
+        SpellError error = report.getErrors().get(0);
+        assertEquals("mistaek", error.getWord());
+        assertEquals(1, error.getLine());
+        assertEquals(21, error.getColumn());
+    }
+
+    @Test
+    public void testIgnoreWords() throws IOException {
+        File file = createFile("sample.txt", "This sentence has a mistaek in it.\n");
+        SpellCheckConfiguration config = createConfiguration(1);
+        config.setIgnoreWords(Arrays.asList("Mistaek"));
+
+        SpellCheckReport report = new SpellChecker(config, log).check(Arrays.asList(file));
+
+        assertEquals(1, report.getFilesChecked());
+        assertFalse(report.hasErrors());
+    }
+
+    @Test
+    public void testCustomDictionaryWithSpellerEngine() throws IOException {
+        File file = createFile("sample.txt", "The Nncdevel project uses spellchek.\n");
+        File dictionary = createFile("dictionary.txt", "# project words\nnncdevel\n");
+        SpellCheckConfiguration config = createConfiguration(1);
+        config.setEngine("speller");
+        config.setCustomDictionary(dictionary);
+
+        SpellCheckReport report = new SpellChecker(config, log).check(Arrays.asList(file));
+
+        assertEquals(Arrays.asList("sample.txt:1:27:spellchek"), toLines(report));
+    }
+
+    @Test
+    public void testResultCacheSharedBetweenCheckers() throws IOException {
+        File file = createFile("sample.txt", "Creates a new instance.\nCreates a new instance.\n");
+
+        new SpellChecker(createConfiguration(1), log).check(Arrays.asList(file));
+        SpellCheckReport report = new SpellChecker(createConfiguration(1), log).check(Arrays.asList(file));
+
+        String statistic = report.getStatistics().get("Result cache");
+        assertNotNull(statistic);
+        assertFalse(statistic, statistic.startsWith("0 hit(s)"));
+    }
+
+    @Test
+    public void testReportOrderIndependentOfThreadCount() throws IOException {
+        List<File> files = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            files.add(createFile("file" + i + ".txt",
+                "The fisrt line of file " + i + ".\nThe secnd line has an eror.\n"));
+        }
+
+        SpellCheckReport sequential = new SpellChecker(createConfiguration(1), log).check(files);
+        SpellCheckReport parallel = new SpellChecker(createConfiguration(4), log).check(files);
+
+        assertEquals(files.size(), parallel.getFilesChecked());
+        assertEquals(3 * files.size(), parallel.getErrorCount());
+        assertEquals(toLines(sequential), toLines(parallel));
+        assertEquals(new ArrayList<>(sequential.getErrorsByFile().keySet()),
+            new ArrayList<>(parallel.getErrorsByFile().keySet()));
+    }
+
+    @Test
+    public void testSpellingOnlyModeReportsSameErrors() throws IOException {
+        File file = createFile("sample.txt", "Their is a mistaek in this this sentense .\n");
+        SpellCheckConfiguration allRules = createConfiguration(1);
+        allRules.setSpellingOnly(false);
+
+        SpellCheckReport expected = new SpellChecker(allRules, log).check(Arrays.asList(file));
+        SpellCheckReport actual = new SpellChecker(createConfiguration(1), log).check(Arrays.asList(file));
+
+        assertEquals(2, actual.getErrorCount());
+        assertEquals(toLines(expected), toLines(actual));
+    }
+
+    @Test
+    public void testSpellerEngineMatchesLanguageToolEngine() throws IOException {
+        File file = createFile("Sample.java",
+            "/**\n * Retruns the nmae of the user.\n *\n * @param userId the identifier\n */\n");
+        SpellCheckConfiguration speller = createConfiguration(1);
+        speller.setEngine("speller");
+
+        SpellCheckReport expected = new SpellChecker(createConfiguration(1), log).check(Arrays.asList(file));
+        SpellCheckReport actual = new SpellChecker(speller, log).check(Arrays.asList(file));
+
+        assertEquals(Arrays.asList("Sample.java:2:4:Retruns", "Sample.java:2:16:nmae", "Sample.java:4:11:userId"),
+            toLines(actual));
+        assertEquals(toLines(expected), toLines(actual));
+        assertEquals(expected.getErrors().get(0).getMessage(), actual.getErrors().get(0).getMessage());
+        assertTrue(actual.getErrors().get(1).getSuggestions().contains("name"));
+    }
+
+    @Test
+    public void testPrescreenSkipsKnownParagraphs() throws IOException {
+        File file = createFile("sample.txt",
+            "This paragraph is fine.\n\nThis sentence has a mistaek in it.\n\nThis one is fine too.\n");
+        SpellCheckConfiguration config = createConfiguration(1);
+        config.setPrescreen(true);
+
+        SpellCheckReport expected = new SpellChecker(createConfiguration(1), log).check(Arrays.asList(file));
+        SpellCheckReport actual = new SpellChecker(config, log).check(Arrays.asList(file));
+
+        assertEquals(Arrays.asList("sample.txt:3:21:mistaek"), toLines(actual));
+        assertEquals(toLines(expected), toLines(actual));
+        assertEquals("skipped 2 of 3 paragraph(s)", actual.getStatistics().get("Pre-screen"));
+    }
+
+    @Test
+    public void testBatchingReportsSameErrors() throws IOException {
+        List<File> files = Arrays.asList(
+            createFile("a.properties", "greeting=Helo wrold"),
+            createFile("empty.txt", "  \n"),
+            createFile("b.properties", "title=the title\r\nmessage=an eror ocurred\r\n"),
+            createFile("package-info.java", "/**\n * Utilites for tokenizing text\n */\npackage x;"),
+            createFile("c.txt", "no mistakes here"));
+        SpellCheckConfiguration unbatched = createConfiguration(1);
+        unbatched.setBatchSize(1);
+        SpellCheckConfiguration batched = createConfiguration(1);
+        batched.setBatchSize(3);
+
+        SpellCheckReport expected = new SpellChecker(unbatched, log).check(files);
+        SpellCheckReport actual = new SpellChecker(batched, log).check(files);
+
+        assertEquals(files.size(), actual.getFilesChecked());
+        assertEquals(Arrays.asList("a.properties:1:10:Helo", "a.properties:1:15:wrold",
+            "b.properties:2:12:eror", "b.properties:2:17:ocurred", "package-info.java:2:4:Utilites"),
+            toLines(actual));
+        assertEquals(toLines(expected), toLines(actual));
+    }
+
+    @Test
+    public void testBatchingWithAllRulesReportsSameErrors() throws IOException {
+        // Files that end mid-sentence and files that start in lower case must not interact
+        List<File> files = Arrays.asList(
+            createFile("a.txt", "The plugin checks every file that"),
+            createFile("b.txt", "contains text, even if it has a mispelled word"),
+            createFile("c.txt", "Another file ends with the"),
+            createFile("d.txt", "the same word and a typo: wrnog"),
+            createFile("e.txt", "i start in lower case and end with an"),
+            createFile("f.txt", "apple, a orange and a eror"));
+        SpellCheckConfiguration unbatched = createConfiguration(1);
+        unbatched.setSpellingOnly(false);
+        unbatched.setBatchSize(1);
+        SpellCheckConfiguration batched = createConfiguration(1);
+        batched.setSpellingOnly(false);
+        batched.setBatchSize(files.size());
+
+        SpellCheckReport expected = new SpellChecker(unbatched, log).check(files);
+        SpellCheckReport actual = new SpellChecker(batched, log).check(files);
+
+        assertEquals(files.size(), actual.getFilesChecked());
+        assertEquals(Arrays.asList("b.txt:1:33:mispelled", "d.txt:1:27:wrnog", "f.txt:1:23:eror"),
+            toLines(actual));
+        assertEquals(toLines(expected), toLines(actual));
+    }
+
+    @Test
+    public void testSegmentedLargeFileReportsSameErrors() throws IOException {
+        StringBuilder content = new StringBuilder("# Changelog\n");
+        for (int i = 0; i < 40; i++) {
+            content.append("\n## Version 1.").append(i).append("\n\n");
+            content.append(i % 3 == 0 ? "* Fixed a bug in the parsr.\n" : "* Improved the parser.\n");
+            content.append("* Updated the documentation\n  for the relese.\n");
+        }
+        File file = createFile("CHANGELOG.md", content.toString());
+        SpellCheckConfiguration whole = createConfiguration(1);
+        whole.setSegmentSize(0);
+        SpellCheckConfiguration segmented = createConfiguration(4);
+        segmented.setSegmentSize(200);
+
+        SpellCheckReport expected = new SpellChecker(whole, log).check(Arrays.asList(file));
+        SpellCheckReport actual = new SpellChecker(segmented, log).check(Arrays.asList(file));
+
+        assertEquals(54, actual.getErrorCount());
+        assertEquals("CHANGELOG.md:5:22:parsr", toLines(actual).get(0));
+        assertEquals(toLines(expected), toLines(actual));
+    }
+
+    @Test
+    public void testCheckFilesFromSourceInDiscoveryOrder() throws IOException {
+        List<File> files = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            files.add(createFile("file" + i + ".txt", i % 10 == 0 ? "A typo: wrnog " + i + "\n" : "Nothing here.\n"));
+        }
+        SpellCheckConfiguration config = createConfiguration(3);
+        config.setEngine("speller");
+        config.setBatchSize(7);
+
+        SpellCheckReport report = new SpellChecker(config, log).check(consumer -> {
+            for (File file : files) {
+                consumer.accept(file);
+            }
+        });
+
+        assertEquals(files.size(), report.getFilesChecked());
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < files.size(); i += 10) {
+            expected.add("file" + i + ".txt:1:9:wrnog");
+        }
+        assertEquals(expected, toLines(report));
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadFailureFailsCheck() throws IOException {
+        File file = createFile("sample.txt", "Some text.\n");
+        File missing = new File(tempFolder.getRoot(), "missing.txt");
+        SpellCheckConfiguration config = createConfiguration(2);
+        config.setEngine("speller");
+
+        new SpellChecker(config, log).check(Arrays.asList(file, missing));
+    }
+
+    @Test
+    public void testEnginesReusedBetweenCheckers() throws IOException {
+        SpellCheckConfiguration config = createConfiguration(2);
+        config.setEngine("speller");
+        config.setIgnoreWords(Arrays.asList("registrytest"));
+        config.setEngineIdleTimeoutMinutes(0);
+        SpellCheckConfiguration other = createConfiguration(2);
+        other.setEngine("speller");
+        other.setIgnoreWords(Arrays.asList("registrytest", "other"));
+
+        try (SpellChecker second = new SpellChecker(config, log);
+             SpellChecker different = new SpellChecker(other, log)) {
+            try (SpellChecker first = new SpellChecker(config, log)) {
+                assertSame(first.getResources(), second.getResources());
+                assertNotSame(first.getResources(), different.getResources());
+            }
+
+            // The engines stay shared while the second checker still holds them
+            try (SpellChecker third = new SpellChecker(config, log)) {
+                assertSame(second.getResources(), third.getResources());
+            }
+        }
+
+        try (SpellChecker fresh = new SpellChecker(config, log)) {
+            assertNotNull(fresh.getResources());
+            verify(log, times(2)).info("Reusing spelling engines initialized by a previous execution");
+        }
+    }
+
+    @Test
+    public void testWarmUpRunsOncePerLanguageAndEngine() throws Exception {
+        long first = SpellChecker.warmUp("en-GB", "speller").get();
+        long second = SpellChecker.warmUp("en-GB-oxendict", "speller").get();
+
+        assertTrue(first >= 0);
+        assertEquals(0, second);
+    }
+
+    @Test
+    public void testSnapshotRestoredByLaterRun() throws IOException {
+        File file = createFile("sample.txt", "A snapshot keeps the verdict of wrnog words.\n");
+        SpellCheckConfiguration config = createConfiguration(1);
+        config.setEngine("speller");
+        config.setPrescreen(true);
+        config.setIgnoreWords(Arrays.asList("snapshottest"));
+        config.setEngineIdleTimeoutMinutes(0);
+        config.setSnapshotDirectory(tempFolder.newFolder("snapshots"));
+
+        SpellCheckReport expected;
+        try (SpellChecker checker = new SpellChecker(config, log)) {
+            expected = checker.check(Arrays.asList(file));
+            // Only suggestions that a report asked for are written to the snapshot
+            assertFalse(expected.getErrors().get(0).getSuggestions().isEmpty());
+        }
+        SpellCheckReport actual;
+        try (SpellChecker checker = new SpellChecker(config, log)) {
+            actual = checker.check(Arrays.asList(file));
+        }
+
+        assertEquals(Arrays.asList("sample.txt:1:33:wrnog"), toLines(actual));
+        assertEquals(toLines(expected), toLines(actual));
+        assertTrue(actual.getStatistics().get("Word cache"), actual.getStatistics().get("Word cache").startsWith("7 hit(s) of 7"));
+        verify(log).info(startsWith("Restored engine snapshot with 7 word verdict(s)"));
+    }
+
+    @Test
+    public void testMaxSuggestionsLimitsSuggestions() throws IOException {
+        File file = createFile("sample.txt", "This sentence has a mistaek in it.\n");
+        for (String engine : Arrays.asList("languagetool", "speller")) {
+            SpellCheckConfiguration none = createConfiguration(1);
+            none.setEngine(engine);
+            none.setMaxSuggestions(0);
+            SpellCheckConfiguration one = createConfiguration(1);
+            one.setEngine(engine);
+            one.setMaxSuggestions(1);
+
+            SpellError withoutSuggestions = new SpellChecker(none, log).check(Arrays.asList(file)).getErrors().get(0);
+            SpellError withSuggestion = new SpellChecker(one, log).check(Arrays.asList(file)).getErrors().get(0);
+
+            assertEquals(engine, "mistaek", withoutSuggestions.getWord());
+            assertTrue(engine, withoutSuggestions.getSuggestions().isEmpty());
+            assertEquals(engine, Arrays.asList("mistake"), withSuggestion.getSuggestions());
+        }
+    }
+
+    @Test
+    public void testProjectWordsSuggestedFirst() throws IOException {
+        File file = createFile("sample.txt", "The Nncdevle plugin checks spelling.\n");
+        SpellCheckConfiguration config = createConfiguration(1);
+        config.setEngine("speller");
+        config.setIgnoreWords(Arrays.asList("nncdevel"));
+        config.setMaxSuggestions(3);
+
+        SpellError error = new SpellChecker(config, log).check(Arrays.asList(file)).getErrors().get(0);
+
+        assertEquals("Nncdevle", error.getWord());
+        assertEquals("Nncdevel", error.getSuggestions().get(0));
+        assertTrue(error.getSuggestions().size() <= 3);
+    }
+
+    @Test
+    public void testAllowCompoundWords() throws IOException {
+        File file = createFile("sample.txt", "The filewatcher uses a threadpool and a nncdevelplugin, not a mistaekpool.\n");
+        SpellCheckConfiguration config = createConfiguration(1);
+        config.setEngine("speller");
+        config.setIgnoreWords(Arrays.asList("nncdevel"));
+
+        SpellCheckReport strict = new SpellChecker(config, log).check(Arrays.asList(file));
+        config.setAllowCompoundWords(true);
+        SpellCheckReport compound = new SpellChecker(config, log).check(Arrays.asList(file));
+
+        assertEquals(4, strict.getErrorCount());
+        assertEquals(Arrays.asList("sample.txt:1:63:mistaekpool"), toLines(compound));
+    }
+
+    @Test
+    public void testCaseSensitiveIgnoreWords() throws IOException {
+        File file = createFile("sample.txt", "Nncdevel and nncdevel differ from NNCDEVEL.\n");
+        SpellCheckConfiguration config = createConfiguration(1);
+        config.setEngine("speller");
+        config.setIgnoreWords(Arrays.asList("nncdevel"));
+
+        SpellCheckReport insensitive = new SpellChecker(config, log).check(Arrays.asList(file));
+        config.setCaseSensitive(true);
+        SpellCheckReport sensitive = new SpellChecker(config, log).check(Arrays.asList(file));
+
+        assertEquals(0, insensitive.getErrorCount());
+        assertEquals(Arrays.asList("sample.txt:1:35:NNCDEVEL"), toLines(sensitive));
+    }
+
+    @Test
+    public void testFlagWords() throws IOException {
+        File file = createFile("sample.txt", "Use the blacklist, not a mistaek.\nThe Blacklist is hte list.\n");
+        SpellCheckConfiguration config = createConfiguration(1);
+        config.setEngine("speller");
+        config.setFlagWords(Arrays.asList("blacklist->blocklist", "hte"));
+
+        SpellCheckReport report = new SpellChecker(config, log).check(Arrays.asList(file));
+
+        assertEquals(Arrays.asList("sample.txt:1:9:blacklist", "sample.txt:1:26:mistaek",
+            "sample.txt:2:5:Blacklist", "sample.txt:2:18:hte"), toLines(report));
+        SpellError forbidden = report.getErrors().get(0);
+        assertEquals("Forbidden word", forbidden.getMessage());
+        assertEquals(Arrays.asList("blocklist"), forbidden.getSuggestions());
+        assertEquals(Collections.emptyList(), report.getErrors().get(3).getSuggestions());
+    }
+
+    @Test
+    public void testIgnoreRegExpList() throws IOException {
+        File file = createFile("sample.txt", "Set colr to 0xFFAA00 and wrds.\nSee ticket ABC-qwzx for the mistaek.\n");
+        SpellCheckConfiguration config = createConfiguration(1);
+        config.setEngine("speller");
+        config.setIgnoreRegExpList(Arrays.asList("/0x[0-9a-f]+/gi", "/\\b[A-Z]+-\\w+/g", "/colr/"));
+
+        SpellCheckReport report = new SpellChecker(config, log).check(Arrays.asList(file));
+
+        assertEquals(Arrays.asList("sample.txt:1:26:wrds", "sample.txt:2:29:mistaek"), toLines(report));
+    }
+
+    @Test
+    public void testIncludeRegExpList() throws IOException {
+        File file = createFile("Sample.java",
+            "int cnt = mxval; // Count the entires\nString s = \"Helo\"; /* the rest of the mistaek */\n");
+        for (boolean prescreen : Arrays.asList(false, true)) {
+            SpellCheckConfiguration config = createConfiguration(1);
+            config.setEngine("speller");
+            config.setPrescreen(prescreen);
+            config.setIncludeRegExpList(Arrays.asList("/\\/\\/.*/g", "/\"[^\"]*\"/g"));
+            config.setIgnoreRegExpList(Arrays.asList("/Helo/"));
+
+            SpellCheckReport report = new SpellChecker(config, log).check(Arrays.asList(file));
+
+            assertEquals(Arrays.asList("Sample.java:1:31:entires"), toLines(report));
+        }
+    }
+
+    @Test
+    public void testIncludeRegExpListWithPredefinedPatternNames() throws IOException {
+        File file = createFile("Sample.java",
+            "int cnt = mxval; // Count the entires\nString s = \"Helo\"; /* the rest of the mistaek */\n");
+        CSpellConfig cspellConfig = new CSpellConfig();
+        cspellConfig.getIncludeRegExpList().addAll(Arrays.asList("CStyleComment", "string"));
+        SpellCheckConfiguration config = createConfiguration(1);
+        config.setEngine("speller");
+        config.setIncludeRegExpList(new CSpellConfigLoader(log).toSpellCheckConfiguration(cspellConfig)
+            .getIncludeRegExpList());
+
+        SpellCheckReport report = new SpellChecker(config, log).check(Arrays.asList(file));
+
+        assertEquals(Arrays.asList("Sample.java:1:31:entires", "Sample.java:2:13:Helo", "Sample.java:2:39:mistaek"),
+            toLines(report));
+        verify(log, never()).warn(anyString());
+    }
+
+    @Test
+    public void testIncludeRegExpListMatchingNothingWarns() throws IOException {
+        File file = createFile("Sample.java", "int cnt = mxval;\n");
+        SpellCheckConfiguration config = createConfiguration(1);
+        config.setEngine("speller");
+        config.setIncludeRegExpList(Arrays.asList("CStyleComment"));
+
+        SpellCheckReport report = new SpellChecker(config, log).check(Arrays.asList(file));
+
+        assertFalse(report.hasErrors());
+        verify(log).warn(contains("matched no text in 1 file(s)"));
+    }
+
+    @Test
+    public void testMaskedTokens() throws IOException {
+        File file = createFile("sample.txt",
+            "See https://qwzx.example.com/zzyq or mail qwzx@example.com about 3f9ac2be1d and the mistaek.\n");
+        SpellCheckConfiguration config = createConfiguration(1);
+        config.setEngine("speller");
+
+        SpellCheckReport masked = new SpellChecker(config, log).check(Arrays.asList(file));
+        config.setMaskedTokens(Collections.emptyList());
+        SpellCheckReport unmasked = new SpellChecker(config, log).check(Arrays.asList(file));
+
+        assertEquals(Arrays.asList("sample.txt:1:85:mistaek"), toLines(masked));
+        assertEquals("skipped 55 character(s)", masked.getStatistics().get("Masked tokens"));
+        assertTrue(unmasked.getErrorCount() > 1);
+        assertNull(unmasked.getStatistics().get("Masked tokens"));
+    }
+
+    @Test
+    public void testInlineDirectives() throws IOException {
+        File file = createFile("sample.txt", "// cspell:ignore qwzx\n"
+            + "The qwzx is fine.\n"
+            + "<!-- cspell:disable -->\nZzyq xyzzq.\n<!-- cspell:enable -->\n"
+            + "Skip this wrold. <!-- cspell:disable-line -->\n"
+            + "The last mistaek.\n");
+        for (boolean prescreen : Arrays.asList(false, true)) {
+            SpellCheckConfiguration config = createConfiguration(1);
+            config.setEngine("speller");
+            config.setPrescreen(prescreen);
+
+            SpellCheckReport report = new SpellChecker(config, log).check(Arrays.asList(file));
+
+            assertEquals(Arrays.asList("sample.txt:7:10:mistaek"), toLines(report));
+        }
+    }
+
+    @Test
+    public void testMultipleLanguages() throws IOException {
+        File file = createFile("sample.txt", "The colour of the color is a mistaek.\n");
+        for (String engine : Arrays.asList("languagetool", "speller", "full")) {
+            SpellCheckConfiguration config = createConfiguration(1);
+            // The full analysis must not turn a word accepted by en-GB into an error
+            config.setEngine(engine.equals("full") ? "languagetool" : engine);
+            config.setSpellingOnly(!engine.equals("full"));
+            config.setLanguage("en-US");
+            SpellCheckReport american = new SpellChecker(config, log).check(Arrays.asList(file));
+            config.setLanguage("en-US, en-GB");
+            SpellCheckReport both = new SpellChecker(config, log).check(Arrays.asList(file));
+
+            assertEquals(engine, Arrays.asList("sample.txt:1:5:colour", "sample.txt:1:30:mistaek"), toLines(american));
+            assertEquals(engine, Arrays.asList("sample.txt:1:30:mistaek"), toLines(both));
+        }
+    }
+
+    @Test
+    public void testTimedOutFileIsQuarantined() throws IOException {
+        // Distinct sentences, so that the result cache cannot speed up the check
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 30000; i++) {
+            content.append("Sentence number ").append(i).append(" has a mistaek in it.\n");
+            if (i % 50 == 49) {
+                content.append('\n');
+            }
+        }
+        File large = createFile("large.txt", content.toString());
+        File small = createFile("small.txt", "This sentence has a mistaek in it.\n");
+        File quarantineFile = new File(tempFolder.getRoot(), "quarantine.txt");
+        SpellCheckConfiguration config = createConfiguration(1);
+        config.setFileTimeoutSeconds(1);
+        config.setQuarantineFile(quarantineFile);
+
+        SpellCheckReport report;
+        try (SpellChecker checker = new SpellChecker(config, log)) {
+            report = checker.check(Arrays.asList(large, small));
+        }
+
+        assertEquals(Arrays.asList(large), report.getTimedOutFiles());
+        assertEquals(1, report.getFilesChecked());
+        assertEquals(Arrays.asList("small.txt:1:21:mistaek"), toLines(report));
+        assertTrue(Quarantine.load(quarantineFile).contains(large));
+
+        try (SpellChecker checker = new SpellChecker(config, log)) {
+            report = checker.check(Arrays.asList(large, small));
+        }
+
+        assertTrue(report.getTimedOutFiles().isEmpty());
+        assertEquals(Arrays.asList(large), report.getQuarantinedFiles());
+        assertEquals(1, report.getFilesChecked());
+        assertEquals(2, report.getFilesFound());
+        assertEquals("skipped 1 file(s)", report.getStatistics().get("Quarantine"));
+        verify(log).warn("  " + large.getPath());
+    }
+
+    @Test(timeout = 60000)
+    public void testErrorInCheckWorkerEndsRun() throws IOException {
+        File file = createFile("sample.txt", "This sentence has a mistaek in it.\n");
+
+        try (SpellChecker checker = new SpellChecker(createConfiguration(2), log) {
+            @Override
+            List<List<SpellError>> checkBatch(List<FileText> texts) {
+                throw new IncompatibleClassChangeError("broken dependency");
+            }
+        }) {
+            checker.check(Arrays.asList(file));
+            fail("Expected IncompatibleClassChangeError");
+        } catch (IncompatibleClassChangeError e) {
+            assertEquals("broken dependency", e.getMessage());
+        }
+    }
+
+    @Test(timeout = 60000)
+    public void testErrorInReadStageEndsRun() throws IOException {
+        File file = createFile("sample.txt", "This sentence has a mistaek in it.\n");
+
+        try (SpellChecker checker = new SpellChecker(createConfiguration(1), log) {
+            @Override
+            FileText readFile(File file) {
+                throw new StackOverflowError();
+            }
+        }) {
+            checker.check(Arrays.asList(file));
+            fail("Expected StackOverflowError");
+        } catch (StackOverflowError e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testSplitLanguages() {
+        assertEquals(Arrays.asList("en", "nl"), SpellChecker.splitLanguages(" en, ,nl"));
+        assertEquals(Collections.singletonList(null), SpellChecker.splitLanguages(null));
+    }
+
+    private SpellCheckConfiguration createConfiguration(int threads) {
+        SpellCheckConfiguration config = new SpellCheckConfiguration();
+        config.setThreads(threads);
+        return config;
+    }
+
+    private File createFile(String name, String content) throws IOException {
+        File file = tempFolder.newFile(name);
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private List<String> toLines(SpellCheckReport report) {
+        List<String> lines = new ArrayList<>();
+        for (SpellError error : report.getErrors()) {
+            lines.add(error.getFile().getName() + ":" + error.getLine() + ":" + error.getColumn() + ":" + error.getWord());
+        }
+        return lines;
+    }
+}
@@ -1,5 +1,6 @@
 package io.nncdevel.maven.spellcheck.config;
 
+import io.nncdevel.maven.spellcheck.text.TextMasker;
 import org.apache.maven.plugin.logging.Log;
 import org.junit.Before;
 import org.junit.Rule;
@@ -10,6 +11,10 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
 
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
@@ -167,13 +172,86 @@ public class CSpellConfigLoaderTest {
     @Test
     public void testToSpellCheckConfigurationWithMultipleLanguages() {
         CSpellConfig cspellConfig = new CSpellConfig();
-        cspellConfig.setLanguage("en,nl,de");
+        cspellConfig.setLanguage("en, nl,de");
 
         SpellCheckConfiguration config = loader.toSpellCheckConfiguration(cspellConfig);
 
         assertNotNull(config);
-        // Should use the first language
-        assertEquals("en", config.getLanguage());
+        // Should keep all languages
+        assertEquals("en,nl,de", config.getLanguage());
+    }
+
+    @Test
+    public void testToSpellCheckConfigurationWithCompoundWords() {
+        CSpellConfig cspellConfig = new CSpellConfig();
+        assertFalse(loader.toSpellCheckConfiguration(cspellConfig).isAllowCompoundWords());
+
+        cspellConfig.setAllowCompoundWords(true);
+        assertTrue(loader.toSpellCheckConfiguration(cspellConfig).isAllowCompoundWords());
+    }
+
+    @Test
+    public void testToSpellCheckConfigurationWithCaseSensitive() {
+        CSpellConfig cspellConfig = new CSpellConfig();
+        assertFalse(loader.toSpellCheckConfiguration(cspellConfig).isCaseSensitive());
+
+        cspellConfig.setCaseSensitive(true);
+        assertTrue(loader.toSpellCheckConfiguration(cspellConfig).isCaseSensitive());
+    }
+
+    @Test
+    public void testToSpellCheckConfigurationWithFlagWords() {
+        CSpellConfig cspellConfig = new CSpellConfig();
+        cspellConfig.getFlagWords().add("hte->the");
+
+        SpellCheckConfiguration config = loader.toSpellCheckConfiguration(cspellConfig);
+
+        assertEquals(Arrays.asList("hte->the"), config.getFlagWords());
+    }
+
+    @Test
+    public void testToSpellCheckConfigurationResolvesNamedPatterns() {
+        CSpellConfig.Pattern pattern = new CSpellConfig.Pattern();
+        pattern.setName("hex");
+        pattern.setPattern("/0x[0-9a-f]+/gi");
+        CSpellConfig cspellConfig = new CSpellConfig();
+        cspellConfig.getPatterns().add(pattern);
+        cspellConfig.getIgnoreRegExpList().add("hex");
+        cspellConfig.getIgnoreRegExpList().add("/[0-9a-f]{40}/g");
+        cspellConfig.getIncludeRegExpList().add("hex");
+
+        SpellCheckConfiguration config = loader.toSpellCheckConfiguration(cspellConfig);
+
+        assertEquals(Arrays.asList("/0x[0-9a-f]+/gi", "/[0-9a-f]{40}/g"), config.getIgnoreRegExpList());
+        assertEquals(Arrays.asList("/0x[0-9a-f]+/gi"), config.getIncludeRegExpList());
+    }
+
+    @Test
+    public void testToSpellCheckConfigurationResolvesPredefinedIgnorePatterns() {
+        CSpellConfig cspellConfig = new CSpellConfig();
+        cspellConfig.getIgnoreRegExpList().add("Urls");
+        cspellConfig.getIgnoreRegExpList().add("HexValues");
+
+        SpellCheckConfiguration config = loader.toSpellCheckConfiguration(cspellConfig);
+
+        List<Pattern> patterns = new ArrayList<>();
+        for (String expression : config.getIgnoreRegExpList()) {
+            patterns.add(TextMasker.compile(expression));
+        }
+        String text = "See https://exmple.org/pth for 0xCAFE and #ff00ff";
+        assertEquals("See                        for        and        ", new TextMasker(patterns).mask(text));
+        verify(log, never()).warn(anyString());
+    }
+
+    @Test
+    public void testToSpellCheckConfigurationWarnsAboutUnknownPatternName() {
+        CSpellConfig cspellConfig = new CSpellConfig();
+        cspellConfig.getIgnoreRegExpList().add("Uuids");
+
+        SpellCheckConfiguration config = loader.toSpellCheckConfiguration(cspellConfig);
+
+        assertEquals(Arrays.asList("Uuids"), config.getIgnoreRegExpList());
+        verify(log).warn(contains("Uuids"));
     }
 
     @Test
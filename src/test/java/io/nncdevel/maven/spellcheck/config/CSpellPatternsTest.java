@@ -0,0 +1,49 @@
+package io.nncdevel.maven.spellcheck.config;
+
+import io.nncdevel.maven.spellcheck.text.TextMasker;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test for CSpellPatterns.
+ *
+ * @author T. Izuno
+ * @since 1.0.0
+ */
+public class CSpellPatternsTest {
+
+    private static final List<String> NAMES = Arrays.asList(
+        "Urls", "HexValues", "CommitHash", "CommitHashLink", "CStyleHexValue", "CSSHexValue", "UUID",
+        "UnicodeRef", "Email", "SHA", "EscapeCharacters", "Base64", "PublicKey", "RsaCert", "SshRsa", "href",
+        "SpellCheckerDisable", "SpellCheckerDisableBlock", "SpellCheckerDisableLine", "SpellCheckerDisableNext",
+        "SpellCheckerIgnoreInDocSetting", "string", "CStyleComment", "PythonStyleComment", "Everything");
+
+    @Test
+    public void testPredefinedPatternsCompile() {
+        for (String name : NAMES) {
+            List<String> expressions = CSpellPatterns.get(name);
+            assertNotNull(name, expressions);
+            for (String expression : expressions) {
+                TextMasker.compile(expression);
+            }
+        }
+    }
+
+    @Test
+    public void testNamesAreCaseSensitive() {
+        assertNull(CSpellPatterns.get("urls"));
+        assertNull(CSpellPatterns.get("/Urls/"));
+    }
+
+    @Test
+    public void testIsName() {
+        assertTrue(CSpellPatterns.isName("CStyleComment"));
+        assertTrue(CSpellPatterns.isName("my-pattern_2"));
+        assertFalse(CSpellPatterns.isName("/0x[0-9a-f]+/gi"));
+        assertFalse(CSpellPatterns.isName("TODO:.*"));
+    }
+}
@@ -0,0 +1,41 @@
+package io.nncdevel.maven.spellcheck.engine;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for CompoundWordSplitter.
+ *
+ * @author T. Izuno
+ */
+public class CompoundWordSplitterTest {
+
+    private static CompoundWordSplitter splitter;
+
+    @BeforeClass
+    public static void setUpClass() throws IOException {
+        splitter = CompoundWordSplitter.create(SharedLanguages.get("en-US"), Arrays.asList("nncdevel"), 100);
+    }
+
+    @Test
+    public void testSplitsCompoundWords() {
+        assertEquals(Arrays.asList("file", "watcher"), splitter.split("filewatcher"));
+        assertEquals(Arrays.asList("Thread", "pool"), splitter.split("Threadpool"));
+        assertEquals(Arrays.asList("nncdevel", "plugin"), splitter.split("nncdevelplugin"));
+        assertTrue(splitter.isCompound("filewatcher"));
+    }
+
+    @Test
+    public void testRejectsWordsWithUnknownOrShortParts() {
+        assertNull(splitter.split("mistaekpool"));
+        assertNull(splitter.split("isapool"));
+        assertNull(splitter.split("pool"));
+        assertNull(splitter.split("file_watcher"));
+        assertFalse(splitter.isCompound("mistaekpool"));
+    }
+}
@@ -0,0 +1,55 @@
+package io.nncdevel.maven.spellcheck.engine;
+
+import io.nncdevel.maven.spellcheck.text.BloomFilter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for EngineSnapshot.
+ *
+ * @author T. Izuno
+ */
+public class EngineSnapshotTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testWriteAndRead() throws IOException {
+        BloomFilter bloomFilter = new BloomFilter(10, 0.01);
+        bloomFilter.add("known");
+        WordVerdictCache wordCache = new WordVerdictCache(10);
+        wordCache.put("teh", WordVerdictCache.Verdict.misspelled(Arrays.asList("the", "ten")));
+        wordCache.put("word", WordVerdictCache.Verdict.correct());
+        File file = EngineSnapshot.getFile(tempFolder.getRoot(), "[en-US, speller]");
+
+        EngineSnapshot.write(file, "[en-US, speller]", bloomFilter, wordCache);
+        EngineSnapshot snapshot = EngineSnapshot.read(file, "[en-US, speller]");
+
+        assertNotNull(snapshot);
+        assertTrue(snapshot.getBloomFilter().mightContain("known"));
+        assertFalse(snapshot.getBloomFilter().mightContain("unknown"));
+        assertEquals(Arrays.asList("teh", "word"), Arrays.asList(snapshot.getVerdicts().keySet().toArray()));
+        assertEquals(Arrays.asList("the", "ten"), snapshot.getVerdicts().get("teh").getSuggestions());
+        assertFalse(snapshot.getVerdicts().get("word").isMisspelled());
+    }
+
+    @Test
+    public void testSnapshotOfOtherConfigurationIsIgnored() throws IOException {
+        File file = EngineSnapshot.getFile(tempFolder.getRoot(), "[en-US]");
+        EngineSnapshot.write(file, "[en-US]", null, new WordVerdictCache(10));
+
+        assertNotEquals(file, EngineSnapshot.getFile(tempFolder.getRoot(), "[en-GB]"));
+        assertNull(EngineSnapshot.read(file, "[en-GB]"));
+        assertNull(EngineSnapshot.read(new File(tempFolder.getRoot(), "missing.snapshot"), "[en-US]"));
+        assertEquals(Collections.emptyMap(), EngineSnapshot.read(file, "[en-US]").getVerdicts());
+    }
+}
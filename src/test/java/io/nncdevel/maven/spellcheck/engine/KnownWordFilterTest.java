@@ -0,0 +1,58 @@
+package io.nncdevel.maven.spellcheck.engine;
+
+import io.nncdevel.maven.spellcheck.text.TextRange;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for KnownWordFilter.
+ *
+ * @author T. Izuno
+ */
+public class KnownWordFilterTest {
+
+    private final KnownWordFilter filter = KnownWordFilter.create(
+        Arrays.asList("the", "name", "of", "user", "returns", "is", "valid", "Java"),
+        Collections.singletonList("NNCDevel"), 0.0001);
+
+    @Test
+    public void testIsKnown() {
+        assertTrue(isKnown("name"));
+        assertTrue(isKnown("Returns"));
+        assertTrue(isKnown("NAME"));
+        assertTrue(isKnown("Java"));
+        assertTrue(isKnown("nncdevel"));
+        assertTrue(isKnown("Nncdevel"));
+        assertFalse(isKnown("java"));
+        assertFalse(isKnown("nmae"));
+    }
+
+    @Test
+    public void testFindUncertainRanges() {
+        String known = "Returns the name.\n";
+        String unknown = "The nmae is valid.\n";
+        String text = known + "\n" + unknown + "\n" + unknown + "\n" + known;
+
+        List<TextRange> ranges = filter.findUncertainRanges(text);
+
+        int start = known.length() + 1;
+        int end = start + 2 * unknown.length() + 1;
+        assertEquals(Collections.singletonList(new TextRange(start, end)), ranges);
+        assertEquals(4, filter.getParagraphCount());
+        assertEquals(2, filter.getSkippedParagraphCount());
+    }
+
+    @Test
+    public void testAllWordsKnown() {
+        assertTrue(filter.findUncertainRanges("/**\n * Returns the name of the user.\n */\n").isEmpty());
+    }
+
+    private boolean isKnown(String word) {
+        return filter.isKnown(word, 0, word.length());
+    }
+}
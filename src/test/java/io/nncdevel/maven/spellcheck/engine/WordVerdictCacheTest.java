@@ -0,0 +1,105 @@
+package io.nncdevel.maven.spellcheck.engine;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for WordVerdictCache.
+ *
+ * @author T. Izuno
+ */
+public class WordVerdictCacheTest {
+
+    @Test
+    public void testHitsAndMisses() throws IOException {
+        WordVerdictCache cache = new WordVerdictCache(10);
+        AtomicInteger loads = new AtomicInteger();
+        WordVerdictCache.Loader loader = word -> {
+            loads.incrementAndGet();
+            return WordVerdictCache.Verdict.misspelled(Arrays.asList("the"));
+        };
+
+        WordVerdictCache.Verdict first = cache.get("teh", loader);
+        WordVerdictCache.Verdict second = cache.get("teh", loader);
+
+        assertTrue(first.isMisspelled());
+        assertSame(first, second);
+        assertEquals(Arrays.asList("the"), second.getSuggestions());
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testLazySuggestionsComputedOnce() {
+        AtomicInteger computations = new AtomicInteger();
+        WordVerdictCache.Verdict verdict = WordVerdictCache.Verdict.misspelled(() -> {
+            computations.incrementAndGet();
+            return Arrays.asList("the");
+        });
+
+        assertTrue(verdict.isMisspelled());
+        assertFalse(verdict.hasComputedSuggestions());
+        assertEquals(0, computations.get());
+        assertEquals(Arrays.asList("the"), verdict.getSuggestions());
+        assertEquals(Arrays.asList("the"), verdict.getSuggestions());
+        assertTrue(verdict.hasComputedSuggestions());
+        assertEquals(1, computations.get());
+    }
+
+    @Test
+    public void testEvictsOldestEntries() throws IOException {
+        WordVerdictCache cache = new WordVerdictCache(2);
+        WordVerdictCache.Loader loader = word -> WordVerdictCache.Verdict.correct();
+
+        cache.get("one", loader);
+        cache.get("two", loader);
+        cache.get("three", loader);
+        cache.get("three", loader);
+        cache.get("one", loader);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(4, cache.getMissCount());
+    }
+
+    @Test
+    public void testDisabledCache() throws IOException {
+        WordVerdictCache cache = new WordVerdictCache(0);
+        WordVerdictCache.Loader loader = word -> WordVerdictCache.Verdict.correct();
+
+        cache.get("word", loader);
+        cache.get("word", loader);
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void testConcurrentAccessStaysBounded() throws Exception {
+        WordVerdictCache cache = new WordVerdictCache(100);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    cache.get("word" + (i % 300), word -> WordVerdictCache.Verdict.correct());
+                }
+                return null;
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertTrue(cache.size() <= 100);
+        assertEquals(4000, cache.getHitCount() + cache.getMissCount());
+    }
+}
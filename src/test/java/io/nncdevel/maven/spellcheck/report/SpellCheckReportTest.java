@@ -6,6 +6,7 @@ import org.junit.Test;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -108,6 +109,59 @@ public class SpellCheckReportTest {
         assertTrue(content.contains("incorect"));
     }
 
+    @Test
+    public void testWriteUniqueWords() throws IOException {
+        File outputFile = Files.createTempFile("spellcheck-unique", ".txt").toFile();
+        outputFile.deleteOnExit();
+
+        report.incrementFilesChecked();
+        report.incrementFilesChecked();
+        report.addError(new SpellError(testFile, 1, 1, "teh", "Possible spelling mistake", Arrays.asList("the")));
+        report.addError(new SpellError(testFile, 2, 1, "teh", "Possible spelling mistake", Arrays.asList("the")));
+        report.addError(new SpellError(new File("Other.java"), 3, 1, "Teh", "Possible spelling mistake",
+                                       Arrays.asList("The")));
+        report.writeToFile(outputFile);
+
+        String content = new String(Files.readAllBytes(outputFile.toPath()));
+        assertTrue(content.contains("Unique misspelled words: 1"));
+        assertTrue(content.contains("'teh': 3 occurrence(s) in 2 file(s)"));
+        assertTrue(content.contains("    Suggestions: The"));
+    }
+
+    @Test
+    public void testTimedOutFiles() throws IOException {
+        File outputFile = Files.createTempFile("spellcheck-timeout", ".txt").toFile();
+        outputFile.deleteOnExit();
+
+        report.incrementFilesChecked();
+        report.addTimedOutFile(new File("bundle.min.js"));
+        report.writeToFile(outputFile);
+
+        assertEquals(Arrays.asList(new File("bundle.min.js")), report.getTimedOutFiles());
+        assertEquals(1, report.getFilesChecked());
+        String content = new String(Files.readAllBytes(outputFile.toPath()));
+        assertTrue(content.contains("Files timed out: 1"));
+        assertTrue(content.contains("  bundle.min.js"));
+    }
+
+    @Test
+    public void testSkippedFilesAreFoundWithoutChecks() throws IOException {
+        File outputFile = Files.createTempFile("spellcheck-skipped", ".txt").toFile();
+        outputFile.deleteOnExit();
+
+        report.addTimedOutFile(new File("bundle.min.js"));
+        report.addQuarantinedFile(new File("vendor.min.js"));
+        report.writeToFile(outputFile);
+
+        assertEquals(0, report.getFilesChecked());
+        assertEquals(2, report.getFilesFound());
+        assertEquals(Arrays.asList(new File("vendor.min.js")), report.getQuarantinedFiles());
+        String content = new String(Files.readAllBytes(outputFile.toPath()));
+        assertTrue(content.contains("Files timed out: 1"));
+        assertTrue(content.contains("Files quarantined: 1"));
+        assertTrue(content.contains("  vendor.min.js"));
+    }
+
     @Test
     public void testWriteEmptyReport() throws IOException {
         File outputFile = Files.createTempFile("spellcheck-empty", ".txt").toFile();
@@ -119,4 +173,14 @@ public class SpellCheckReportTest {
         String content = new String(Files.readAllBytes(outputFile.toPath()));
         assertTrue(content.contains("No spelling errors found!"));
     }
+
+    @Test
+    public void testStatisticsKeepInsertionOrder() {
+        report.addStatistic("Word cache", "3 hit(s)");
+        report.addStatistic("Threads", "4");
+
+        assertEquals(Arrays.asList("Word cache", "Threads"),
+            new ArrayList<>(report.getStatistics().keySet()));
+        assertEquals("4", report.getStatistics().get("Threads"));
+    }
 }
@@ -0,0 +1,101 @@
+package io.nncdevel.maven.spellcheck.report;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for UniqueMisspellings.
+ *
+ * @author T. Izuno
+ */
+public class UniqueMisspellingsTest {
+
+    private final File first = new File("First.java");
+    private final File second = new File("Second.java");
+
+    @Test
+    public void testAggregatesOccurrencesByNormalizedWord() {
+        UniqueMisspellings misspellings = new UniqueMisspellings();
+        misspellings.add(error(first, 1, 5, "teh"));
+        misspellings.add(error(first, 3, 1, "Teh"));
+        misspellings.add(error(second, 2, 7, "teh"));
+        misspellings.add(error(second, 4, 2, "recieve"));
+
+        assertEquals(2, misspellings.size());
+        List<MisspelledWord> words = misspellings.getWords();
+        assertEquals("teh", words.get(0).getWord());
+        assertEquals(3, words.get(0).getOccurrenceCount());
+        assertEquals(2, words.get(0).getFileCount());
+        assertEquals("recieve", words.get(1).getWord());
+        assertEquals(1, words.get(1).getOccurrenceCount());
+
+        MisspelledWord.Occurrence occurrence = words.get(0).getOccurrences().get(2);
+        assertEquals(second, occurrence.getFile());
+        assertEquals(2, occurrence.getLine());
+        assertEquals(7, occurrence.getColumn());
+        assertSame(words.get(0), misspellings.get("TEH"));
+    }
+
+    @Test
+    public void testErrorsAreRebuiltFromOccurrences() {
+        UniqueMisspellings misspellings = new UniqueMisspellings();
+        SpellError firstTeh = error(first, 1, 5, "teh");
+        SpellError firstRecieve = error(first, 3, 1, "recieve");
+        misspellings.add(firstTeh);
+        misspellings.add(error(second, 2, 7, "teh"));
+        misspellings.add(firstRecieve);
+        misspellings.add(error(first, 2, 4, "Teh"));
+
+        assertEquals(4, misspellings.getErrorCount());
+        List<SpellError> errors = misspellings.getErrors();
+        assertEquals(Arrays.asList("First.java:1:5:teh", "First.java:2:4:Teh", "First.java:3:1:recieve",
+            "Second.java:2:7:teh"), toLines(errors));
+        assertSame(firstTeh, errors.get(0));
+        assertSame(firstRecieve, misspellings.getErrorsByFile().get(first).get(2));
+        assertEquals(Arrays.asList("the"), errors.get(3).getSuggestions());
+
+        List<MisspelledWord.Occurrence> occurrences = misspellings.get("teh").getOccurrences();
+        assertEquals(3, occurrences.size());
+        assertEquals("Teh", occurrences.get(2).getWord());
+    }
+
+    @Test
+    public void testSuggestionsComputedOncePerWord() {
+        AtomicInteger computations = new AtomicInteger();
+        UniqueMisspellings misspellings = new UniqueMisspellings();
+        for (int line = 1; line <= 100; line++) {
+            misspellings.add(new SpellError(first, line, 1, "teh", "Possible spelling mistake", () -> {
+                computations.incrementAndGet();
+                return Arrays.asList("the");
+            }));
+        }
+        SpellError last = new SpellError(first, 101, 1, "teh", "Possible spelling mistake", () -> {
+            computations.incrementAndGet();
+            return Arrays.asList("the");
+        });
+        misspellings.add(last);
+
+        assertEquals(Arrays.asList("the"), misspellings.getWords().get(0).getSuggestions());
+        assertEquals(Arrays.asList("the"), misspellings.getSuggestions(last));
+        assertEquals(1, computations.get());
+    }
+
+    private List<String> toLines(List<SpellError> errors) {
+        List<String> lines = new ArrayList<>();
+        for (SpellError error : errors) {
+            lines.add(error.getFile().getName() + ":" + error.getLine() + ":" + error.getColumn() + ":" + error.getWord());
+        }
+        return lines;
+    }
+
+    private SpellError error(File file, int line, int column, String word) {
+        return new SpellError(file, line, column, word, "Possible spelling mistake", Arrays.asList("the"));
+    }
+}
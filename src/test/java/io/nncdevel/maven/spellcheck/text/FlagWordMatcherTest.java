@@ -0,0 +1,60 @@
+package io.nncdevel.maven.spellcheck.text;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for FlagWordMatcher.
+ *
+ * @author T. Izuno
+ */
+public class FlagWordMatcherTest {
+
+    private final FlagWordMatcher matcher = new FlagWordMatcher(
+        Arrays.asList("hte->the", "blacklist -> blocklist", "he", "she", "his", "hers", "master branch"));
+
+    @Test
+    public void testFindsWholeWordsIgnoringCase() {
+        assertEquals(Arrays.asList("hte@4", "HTE@14"), find("Fix hte typo. HTE."));
+        assertEquals(Collections.emptyList(), find("Hotel, shell, hither, ushers."));
+    }
+
+    @Test
+    public void testFindsOverlappingWords() {
+        assertEquals(Arrays.asList("she@0", "he@4", "hers@7"), find("she he hers"));
+        assertEquals(Arrays.asList("Master branch@9"), find("Push the Master branch"));
+    }
+
+    @Test
+    public void testReplacements() {
+        List<FlagWordMatcher.Match> matches = matcher.find("The blacklist and hte list.");
+
+        assertEquals(2, matches.size());
+        assertEquals("blacklist", matches.get(0).getWord());
+        assertEquals("blocklist", matches.get(0).getReplacement());
+        assertEquals("the", matches.get(1).getReplacement());
+        assertEquals(7, matcher.size());
+    }
+
+    @Test
+    public void testEmpty() {
+        FlagWordMatcher empty = new FlagWordMatcher(Arrays.asList("", " ->x"));
+
+        assertEquals(0, empty.size());
+        assertTrue(empty.find("anything").isEmpty());
+    }
+
+    private List<String> find(String text) {
+        List<String> result = new ArrayList<>();
+        for (FlagWordMatcher.Match match : matcher.find(text)) {
+            result.add(text.substring(match.getStart(), match.getEnd()) + "@" + match.getStart());
+        }
+        return result;
+    }
+}
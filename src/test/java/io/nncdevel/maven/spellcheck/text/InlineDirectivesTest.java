@@ -0,0 +1,95 @@
+package io.nncdevel.maven.spellcheck.text;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for InlineDirectives.
+ *
+ * @author T. Izuno
+ */
+public class InlineDirectivesTest {
+
+    @Test
+    public void testDisableAndEnable() {
+        String text = "one\n// cspell:disable\ntwo\n// cspell:enable\nthree\n/* CSpell:Disable */ four";
+        InlineDirectives directives = InlineDirectives.parse(text);
+
+        int disable = text.indexOf("cspell:disable");
+        int enable = text.indexOf("cspell:enable") + "cspell:enable".length();
+        int last = text.indexOf("CSpell:Disable");
+        assertEquals(Arrays.asList(new TextRange(disable, enable), new TextRange(last, text.length())),
+            directives.getDisabledRanges());
+        assertEquals(Arrays.asList(new TextRange(0, disable), new TextRange(enable, last)),
+            directives.getEnabledRanges(text.length()));
+    }
+
+    @Test
+    public void testDisableLines() {
+        String text = "one\ntwo // spell-checker:disable-line\n# cspell:disable-next-line\nthree\nfour";
+        InlineDirectives directives = InlineDirectives.parse(text);
+
+        int secondLineEnd = text.indexOf('\n', 4);
+        assertEquals(Arrays.asList(new TextRange(4, secondLineEnd), new TextRange(secondLineEnd + 1, text.indexOf("\nfour"))),
+            directives.getDisabledRanges());
+    }
+
+    @Test
+    public void testIgnoreWords() {
+        String text = "/* cspell:ignore qwzx nncdevel */\n<!-- cspell:words zzyq -->\ntext";
+        InlineDirectives directives = InlineDirectives.parse(text);
+
+        assertEquals(Arrays.asList("qwzx", "nncdevel", "zzyq"), directives.getIgnoreWords());
+        assertEquals(2, directives.getDisabledRanges().size());
+        assertFalse(directives.isEmpty());
+    }
+
+    @Test
+    public void testSpacesAfterColon() {
+        String text = "one\n// cspell: disable\ntwo\n// cspell:  enable\n"
+            + "/* cspell: ignore qwzx */\n# spell-checker:\twords zzyq\nthree // cspell: disable-line\n";
+        InlineDirectives directives = InlineDirectives.parse(text);
+
+        int disable = text.indexOf("cspell: disable");
+        int enable = text.indexOf("cspell:  enable") + "cspell:  enable".length();
+        assertEquals(Arrays.asList("qwzx", "zzyq"), directives.getIgnoreWords());
+        assertEquals(new TextRange(disable, enable), directives.getDisabledRanges().get(0));
+        assertEquals(new TextRange(text.indexOf("three"), text.length() - 1),
+            directives.getDisabledRanges().get(directives.getDisabledRanges().size() - 1));
+    }
+
+    @Test
+    public void testDisableNextAlias() {
+        String text = "// cspell: disable-next\nqwzx\nthree";
+        InlineDirectives directives = InlineDirectives.parse(text);
+
+        assertEquals(Collections.singletonList(new TextRange(0, text.indexOf("\nthree"))),
+            directives.getDisabledRanges());
+    }
+
+    @Test
+    public void testDirectiveNamesIgnoreDefaultLocale() {
+        Locale locale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            String text = "// CSPELL:DISABLE\nqwzx";
+            assertEquals(Collections.singletonList(new TextRange(3, text.length())),
+                InlineDirectives.parse(text).getDisabledRanges());
+        } finally {
+            Locale.setDefault(locale);
+        }
+    }
+
+    @Test
+    public void testNoDirectives() {
+        InlineDirectives directives = InlineDirectives.parse("key: value\nmycspell:disable\ncspell:unknown");
+
+        assertTrue(directives.isEmpty());
+        assertEquals(Collections.singletonList(new TextRange(0, 5)), directives.getEnabledRanges(5));
+    }
+}
@@ -0,0 +1,43 @@
+package io.nncdevel.maven.spellcheck.text;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for ParagraphSplitter.
+ *
+ * @author T. Izuno
+ */
+public class ParagraphSplitterTest {
+
+    @Test
+    public void testFindParagraphs() {
+        String text = "first line\nsecond line\n\n  \nthird line\n\n";
+
+        List<TextRange> paragraphs = ParagraphSplitter.findParagraphs(text, new TextRange(0, text.length()));
+
+        assertEquals(Arrays.asList(new TextRange(0, 23), new TextRange(27, 38)), paragraphs);
+    }
+
+    @Test
+    public void testFindParagraphsInRange() {
+        String text = "skipped\n\nfirst\n\nsecond\n\nskipped";
+
+        List<TextRange> paragraphs = ParagraphSplitter.findParagraphs(text, new TextRange(9, 23));
+
+        assertEquals(Arrays.asList(new TextRange(9, 15), new TextRange(16, 23)), paragraphs);
+    }
+
+    @Test
+    public void testSplitGroupsParagraphs() {
+        String text = "aaaa\n\nbbbb\n\ncccccccccccccccc\n\ndd\n";
+
+        List<TextRange> segments = ParagraphSplitter.split(text, new TextRange(0, text.length()), 12);
+
+        assertEquals(Arrays.asList(new TextRange(0, 11), new TextRange(12, 29), new TextRange(30, 33)), segments);
+    }
+}
@@ -0,0 +1,46 @@
+package io.nncdevel.maven.spellcheck.text;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for RegionSelector.
+ *
+ * @author T. Izuno
+ */
+public class RegionSelectorTest {
+
+    private final RegionSelector selector = new RegionSelector(Arrays.asList(
+        TextMasker.compile("/\\/\\/.*/g"), TextMasker.compile("/\"[^\"]*\"/g")));
+
+    @Test
+    public void testSelectMergesOverlappingMatches() {
+        String text = "int x = 1; // a \"quoted\" comment\nString s = \"text\";";
+
+        assertEquals(Arrays.asList(new TextRange(11, 32), new TextRange(44, 50)), selector.select(text));
+        assertEquals(Collections.emptyList(), selector.select("int x = 1;"));
+        assertEquals(2, selector.size());
+    }
+
+    @Test
+    public void testMaskOutside() {
+        String text = "code // note\ncode \"str\"";
+
+        assertEquals("     // note\n     \"str\"",
+            RegionSelector.maskOutside(text, selector.select(text)));
+    }
+
+    @Test
+    public void testIntersect() {
+        assertEquals(Arrays.asList(new TextRange(2, 4), new TextRange(5, 8), new TextRange(9, 10)),
+            RegionSelector.intersect(
+                Arrays.asList(new TextRange(0, 4), new TextRange(5, 10)),
+                Arrays.asList(new TextRange(2, 8), new TextRange(9, 12))));
+        assertEquals(Collections.emptyList(), RegionSelector.intersect(
+            Arrays.asList(new TextRange(0, 4)), Arrays.asList(new TextRange(4, 8))));
+    }
+}
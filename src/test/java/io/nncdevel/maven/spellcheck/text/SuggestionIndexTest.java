@@ -0,0 +1,50 @@
+package io.nncdevel.maven.spellcheck.text;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for SuggestionIndex.
+ *
+ * @author T. Izuno
+ */
+public class SuggestionIndexTest {
+
+    private final SuggestionIndex index = new SuggestionIndex(
+        Arrays.asList("nncdevel", "LanguageTool", "CSpell", "spellcheck", "spellchecker", "mojo"), 2);
+
+    @Test
+    public void testSuggestsWordsWithinDistance() {
+        assertEquals(Arrays.asList("nncdevel"), index.suggest("nncdevle", 5));
+        assertEquals(Arrays.asList("LanguageTool"), index.suggest("langaugetool", 5));
+        assertEquals(Arrays.asList("spellcheck", "spellchecker"), index.suggest("spellchecke", 5));
+        assertEquals(Collections.emptyList(), index.suggest("unrelated", 5));
+    }
+
+    @Test
+    public void testShortWordsUseDistanceOne() {
+        assertEquals(Arrays.asList("mojo"), index.suggest("moj", 5));
+        assertEquals(Collections.emptyList(), index.suggest("mj", 5));
+    }
+
+    @Test
+    public void testLimitAndCase() {
+        assertEquals(Arrays.asList("spellcheck"), index.suggest("spelchek", 1));
+        assertEquals(Arrays.asList("Nncdevel"), index.suggest("Nncdevle", 5));
+        assertEquals(Collections.emptyList(), index.suggest("nncdevel", 5));
+        assertEquals(Collections.emptyList(), index.suggest("nncdevle", 0));
+    }
+
+    @Test
+    public void testDistance() {
+        assertEquals(0, SuggestionIndex.distance("word", "word", 2));
+        assertEquals(1, SuggestionIndex.distance("wrod", "word", 2));
+        assertEquals(1, SuggestionIndex.distance("wordd", "word", 2));
+        assertEquals(2, SuggestionIndex.distance("wrd", "world", 2));
+        assertEquals(3, SuggestionIndex.distance("abcdef", "fedcba", 2));
+    }
+}
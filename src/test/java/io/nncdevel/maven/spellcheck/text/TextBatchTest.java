@@ -0,0 +1,45 @@
+package io.nncdevel.maven.spellcheck.text;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for TextBatch.
+ *
+ * @author T. Izuno
+ */
+public class TextBatchTest {
+
+    @Test
+    public void testSingleSourceIsNotCopied() {
+        String source = "Only one file.";
+        TextBatch batch = new TextBatch();
+        batch.add(0, source, new TextRange(0, source.length()));
+
+        assertSame(source, batch.getText());
+    }
+
+    @Test
+    public void testMapsOffsetsBackToSources() {
+        String first = "first file";
+        String second = "intro\n\nsecond file";
+        TextBatch batch = new TextBatch();
+        batch.add(0, first, new TextRange(0, first.length()));
+        batch.add(1, second, new TextRange(7, second.length()));
+
+        String text = batch.getText();
+        assertEquals("first file\n\nsecond file", text);
+        assertEquals(2, batch.size());
+
+        int offset = text.indexOf("file", 12);
+        int segment = batch.getSegment(offset);
+        assertEquals(1, batch.getOwner(segment));
+        assertEquals(second.indexOf("file"), batch.toSourceOffset(segment, offset));
+
+        segment = batch.getSegment(text.indexOf("file"));
+        assertEquals(0, batch.getOwner(segment));
+        assertEquals(6, batch.toSourceOffset(segment, 6));
+        assertEquals(1, batch.getSegment(12));
+    }
+}
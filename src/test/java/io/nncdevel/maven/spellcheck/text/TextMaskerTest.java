@@ -0,0 +1,47 @@
+package io.nncdevel.maven.spellcheck.text;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for TextMasker.
+ *
+ * @author T. Izuno
+ */
+public class TextMaskerTest {
+
+    @Test
+    public void testCompileJavaScriptLiterals() {
+        Pattern hex = TextMasker.compile("/0x[0-9a-f]+/gi");
+        assertTrue(hex.matcher("0XBEEF").matches());
+        assertEquals("0x[0-9a-f]+", hex.pattern());
+
+        Pattern multiline = TextMasker.compile("/^#.*$/gm");
+        assertEquals(Pattern.MULTILINE, multiline.flags());
+
+        assertEquals("[a-z]+/path", TextMasker.compile("[a-z]+/path").pattern());
+        assertEquals("/usr/local", TextMasker.compile("/usr/local").pattern());
+    }
+
+    @Test
+    public void testMaskKeepsOffsetsAndLines() {
+        TextMasker masker = new TextMasker(Arrays.asList(
+            TextMasker.compile("/0x[0-9a-f]+/gi"), TextMasker.compile("/<<<[\\s\\S]*?>>>/g")));
+
+        assertEquals("Value            here\n   \n       end",
+            masker.mask("Value 0xDEADBEEF here\n<<<\nxyz>>> end"));
+    }
+
+    @Test
+    public void testMaskReturnsSameTextWithoutMatches() {
+        TextMasker masker = new TextMasker(Arrays.asList(TextMasker.compile("/0x[0-9a-f]+/g")));
+        String text = "Nothing to mask";
+
+        assertSame(text, masker.mask(text));
+        assertEquals(1, masker.size());
+    }
+}
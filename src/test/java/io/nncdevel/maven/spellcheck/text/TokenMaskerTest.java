@@ -0,0 +1,80 @@
+package io.nncdevel.maven.spellcheck.text;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for TokenMasker.
+ *
+ * @author T. Izuno
+ */
+public class TokenMaskerTest {
+
+    private final TokenMasker masker = new TokenMasker(EnumSet.allOf(TokenClass.class));
+
+    @Test
+    public void testMasksUrls() {
+        assertMasked("See https://example.com/a?b=c, or (www.qwzx.org).", "https://example.com/a?b=c", "www.qwzx.org");
+        assertMasked("[docs](http://nncdevel.io/docs)", "http://nncdevel.io/docs");
+        assertMasked("Time: 10:30");
+    }
+
+    @Test
+    public void testMasksEmails() {
+        assertMasked("Mail john.doe@nncdevel.io today.", "john.doe@nncdevel.io");
+        assertMasked("@Override and user@localhost");
+    }
+
+    @Test
+    public void testMasksUuidsHashesAndBase64() {
+        assertMasked("id=123e4567-e89b-12d3-a456-426614174000;", "123e4567-e89b-12d3-a456-426614174000");
+        assertMasked("Fixed in a59dfe6 and 225a0f2ab9d97baabbf754111c050314514eb14f.",
+            "a59dfe6", "225a0f2ab9d97baabbf754111c050314514eb14f");
+        assertMasked("key: U3BlbGxDaGVja2VyIHRlc3Q+dGV4dA==", "U3BlbGxDaGVja2VyIHRlc3Q+dGV4dA==");
+        assertMasked("A deadbeef facade in 1234567 words");
+    }
+
+    @Test
+    public void testKeepsPathsAndIdentifiers() {
+        assertMasked("Edit src/main/java/Foo2Bar, src/main/java/Foo2Barbaz and src/test/java/io/Http2ClientTest.");
+        assertMasked("Call parseHttp2ResponseHeader or getUserAccountBalance2024 from Base64EncoderImplementation2.");
+        assertMasked("See org/apache/commons/lang3/StringUtils for details.");
+    }
+
+    @Test
+    public void testBase64RequiresLengthOrPadding() {
+        assertMasked("token aGVsbG8gd29ybGQgMTIz end", "aGVsbG8gd29ybGQgMTIz");
+        assertMasked("token aGVsbG8gd29ybGQgMTIzNDU end");
+        assertMasked("token aGVsbG8gd29ybGQgMTIzNA= end", "aGVsbG8gd29ybGQgMTIzNA=");
+    }
+
+    @Test
+    public void testClassesAreToggleable() {
+        TokenMasker urlsOnly = new TokenMasker(Collections.singletonList(TokenClass.URL));
+        String text = "a59dfe6 at https://example.com";
+
+        assertEquals("a59dfe6 at " + String.join("", Collections.nCopies(19, " ")), urlsOnly.mask(text));
+        assertSame(text, new TokenMasker(Collections.emptyList()).mask(text));
+        assertEquals(19, urlsOnly.getMaskedCharacterCount());
+    }
+
+    @Test
+    public void testFromName() {
+        assertEquals(Arrays.asList(TokenClass.URL, TokenClass.BASE64),
+            Arrays.asList(TokenClass.fromName("url"), TokenClass.fromName("Base64")));
+        assertNull(TokenClass.fromName("unknown"));
+    }
+
+    private void assertMasked(String text, String... tokens) {
+        String expected = text;
+        for (String token : tokens) {
+            expected = expected.replace(token, String.join("", Collections.nCopies(token.length(), " ")));
+        }
+        assertEquals(expected, masker.mask(text));
+    }
+}
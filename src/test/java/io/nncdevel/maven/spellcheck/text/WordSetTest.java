@@ -0,0 +1,57 @@
+package io.nncdevel.maven.spellcheck.text;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for WordSet.
+ *
+ * @author T. Izuno
+ */
+public class WordSetTest {
+
+    @Test
+    public void testCaseInsensitive() {
+        WordSet words = new WordSet(Arrays.asList("nncdevel", "LanguageTool", "languagetool"), false);
+
+        assertEquals(2, words.size());
+        assertTrue(words.contains("NNCDEVEL"));
+        assertTrue(words.contains("languageTOOL"));
+        assertFalse(words.contains("nncdeve"));
+        assertFalse(words.contains(""));
+        assertEquals(Arrays.asList("nncdevel", "languagetool"), words.toList());
+    }
+
+    @Test
+    public void testCaseSensitive() {
+        WordSet words = new WordSet(Arrays.asList("nncdevel", "LanguageTool"), true);
+
+        assertTrue(words.contains("nncdevel"));
+        assertTrue(words.contains("Nncdevel"));
+        assertFalse(words.contains("NNCDEVEL"));
+        assertTrue(words.contains("LanguageTool"));
+        assertFalse(words.contains("languagetool"));
+        assertFalse(words.contains("Languagetool"));
+    }
+
+    @Test
+    public void testRangeLookup() {
+        WordSet words = new WordSet(Arrays.asList("mojo", "cspell"), false);
+        String text = "The Mojo reads CSpell files.";
+
+        assertTrue(words.contains(text, 4, 8));
+        assertTrue(words.contains(text, 15, 21));
+        assertFalse(words.contains(text, 4, 7));
+        assertFalse(words.contains(text, 0, 3));
+        assertEquals(6, words.getMaxLength());
+    }
+
+    @Test
+    public void testEmpty() {
+        assertEquals(0, WordSet.empty().size());
+        assertFalse(WordSet.empty().contains("word"));
+    }
+}
@@ -0,0 +1,70 @@
+package io.nncdevel.maven.spellcheck.text;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for WordTokenizer and LineIndex.
+ *
+ * @author T. Izuno
+ */
+public class WordTokenizerTest {
+
+    @Test
+    public void testSplitsWords() {
+        assertEquals(Arrays.asList("Hello", "world", "don't", "well", "known"),
+            tokenize("Hello, world! I don't (well-known)."));
+    }
+
+    @Test
+    public void testSkipsIdentifiersAndNumbers() {
+        assertEquals(Arrays.asList("value", "is", "ok", "get", "name"),
+            tokenize("value_1 = 42; user2 is ok x get_name"));
+    }
+
+    @Test
+    public void testApostrophesOnlyInsideWords() {
+        assertEquals(Arrays.asList("quoted", "users"),
+            tokenize("'quoted' users'"));
+    }
+
+    @Test
+    public void testLineIndex() {
+        LineIndex index = new LineIndex("first\nsecond\r\nthird\rfourth");
+
+        assertEquals(1, index.getLine(0));
+        assertEquals(1, index.getColumn(0));
+        assertEquals(1, index.getLine(5));
+        assertEquals(2, index.getLine(6));
+        assertEquals(3, index.getColumn(8));
+        assertEquals(3, index.getLine(14));
+        assertEquals(1, index.getColumn(14));
+        assertEquals(4, index.getLine(20));
+        assertEquals(1, index.getColumn(20));
+    }
+
+    @Test
+    public void testTokenizeRange() {
+        String text = "first second third";
+        WordTokenizer words = new WordTokenizer(text, 6, 12);
+
+        assertTrue(words.next());
+        assertEquals(6, words.start());
+        assertEquals(12, words.end());
+        assertFalse(words.next());
+    }
+
+    private List<String> tokenize(String text) {
+        List<String> result = new ArrayList<>();
+        WordTokenizer words = new WordTokenizer(text);
+        while (words.next()) {
+            result.add(text.substring(words.start(), words.end()));
+        }
+        return result;
+    }
+}